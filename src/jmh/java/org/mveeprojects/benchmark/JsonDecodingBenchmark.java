@@ -0,0 +1,65 @@
+package org.mveeprojects.benchmark;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Upstream response decoding: the tree ExternalServiceClient builds, against binding to a Map
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonDecodingBenchmark {
+
+    @Param({"primary-data", "analytics-data", "flat-1000", "nested-4", "array-1000"})
+    public String payload;
+
+    private byte[] body;
+    private ObjectMapper defaultMapper;
+    private ObjectReader treeReader;
+    private ObjectReader mapReader;
+
+    @Setup
+    public void setUp() {
+        body = Payloads.bytes(payload);
+        defaultMapper = new ObjectMapper();
+
+        // Same tuning as JacksonConfig applies to the application's mapper
+        ObjectMapper appMapper = new ObjectMapper()
+            .registerModule(new BlackbirdModule())
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .disable(DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES);
+        treeReader = appMapper.readerFor(JsonNode.class);
+        mapReader = appMapper.readerFor(Map.class);
+    }
+
+    @Benchmark
+    public JsonNode readTreeWithNewMapperConfig() throws IOException {
+        return defaultMapper.readTree(body);
+    }
+
+    @Benchmark
+    public JsonNode readTreeWithSharedReader() throws IOException {
+        return treeReader.readValue(body);
+    }
+
+    @Benchmark
+    public Map<String, Object> readMapWithSharedReader() throws IOException {
+        return mapReader.readValue(body);
+    }
+}
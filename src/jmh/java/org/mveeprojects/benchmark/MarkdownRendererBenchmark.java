@@ -0,0 +1,37 @@
+package org.mveeprojects.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.mveeprojects.service.MarkdownRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MarkdownRendererBenchmark {
+
+    @Param({"primary-data", "analytics-data", "flat-10", "flat-1000", "nested-4", "array-100", "array-1000"})
+    public String payload;
+
+    private MarkdownRenderer renderer;
+    private JsonNode json;
+
+    @Setup
+    public void setUp() {
+        renderer = new MarkdownRenderer();
+        json = Payloads.json(payload);
+    }
+
+    @Benchmark
+    public String render() {
+        return renderer.renderJsonToMarkdown(json);
+    }
+}
@@ -0,0 +1,101 @@
+package org.mveeprojects.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Benchmark inputs: the WireMock fixture bodies (on the jmh classpath from wiremock/)
+ * plus synthetic payloads of a given shape and size
+ */
+final class Payloads {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private Payloads() {
+    }
+
+    /**
+     * @param name a fixture ("primary-data", "analytics-data") or "shape-size",
+     *             e.g. "flat-100", "nested-4", "array-1000"
+     */
+    static JsonNode json(String name) {
+        return switch (name) {
+            case "primary-data" -> fixture("primary-api/mappings/primary-data.json");
+            case "analytics-data" -> fixture("secondary-api/mappings/analytics-data.json");
+            default -> synthetic(name);
+        };
+    }
+
+    static byte[] bytes(String name) {
+        try {
+            return MAPPER.writeValueAsBytes(json(name));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static JsonNode fixture(String resource) {
+        try (InputStream in = Payloads.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("Fixture not on classpath: " + resource);
+            }
+            return MAPPER.readTree(in).path("response").path("jsonBody");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static JsonNode synthetic(String name) {
+        int dash = name.lastIndexOf('-');
+        String shape = name.substring(0, dash);
+        int size = Integer.parseInt(name.substring(dash + 1));
+        return switch (shape) {
+            case "flat" -> flat(size);
+            case "nested" -> nested(size);
+            case "array" -> array(size);
+            default -> throw new IllegalArgumentException("Unknown payload: " + name);
+        };
+    }
+
+    /** One object with {@code fields} scalar fields of mixed types */
+    private static ObjectNode flat(int fields) {
+        ObjectNode node = MAPPER.createObjectNode();
+        for (int i = 0; i < fields; i++) {
+            switch (i % 4) {
+                case 0 -> node.put("field_" + i, "value " + i);
+                case 1 -> node.put("count_" + i, i * 31L);
+                case 2 -> node.put("ratio_" + i, i / 7.0);
+                default -> node.put("enabled_" + i, i % 2 == 0);
+            }
+        }
+        return node;
+    }
+
+    /** Objects nested {@code depth} levels deep, four children per level */
+    private static ObjectNode nested(int depth) {
+        ObjectNode node = flat(4);
+        if (depth > 0) {
+            for (int i = 0; i < 4; i++) {
+                node.set("child_" + i, nested(depth - 1));
+            }
+        }
+        return node;
+    }
+
+    /** A result list of {@code items} small records, the shape of paged API responses */
+    private static ObjectNode array(int items) {
+        ObjectNode root = MAPPER.createObjectNode();
+        root.put("status", "success");
+        ArrayNode results = root.putArray("results");
+        for (int i = 0; i < items; i++) {
+            results.add(flat(6));
+        }
+        return root;
+    }
+}
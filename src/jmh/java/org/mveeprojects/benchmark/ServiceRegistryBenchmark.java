@@ -0,0 +1,116 @@
+package org.mveeprojects.benchmark;
+
+import org.mveeprojects.config.ExternalServiceConfig;
+import org.mveeprojects.service.ServiceRegistry;
+import org.mveeprojects.telemetry.PipelineTelemetry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolving a service and its display name by name, the way a workflow does once per requested
+ * service: a scan over external.services (the previous lookup) against the indexed registry.
+ * The client then finds the entry's bulkhead and cached response on every fetch attempt; the
+ * state benchmarks compare keying that lookup on the entry record, whose hashCode and equals walk
+ * the definition and headers, with keying it on the entry instance.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ServiceRegistryBenchmark {
+
+    @Param({"2", "20", "200", "2000"})
+    public int services;
+
+    private List<ExternalServiceConfig.ServiceDefinition> definitions;
+    private ServiceRegistry registry;
+    private String[] lookups;
+    private ServiceRegistry.Entry[] entries;
+    private Map<ServiceRegistry.Entry, Object> stateByValue;
+    private Map<ServiceRegistry.Entry, Object> stateByIdentity;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        definitions = new ArrayList<>(services);
+        for (int i = 0; i < services; i++) {
+            ExternalServiceConfig.ServiceDefinition service = new ExternalServiceConfig.ServiceDefinition();
+            service.setName("service-" + i);
+            service.setUrl("http://localhost:8081/api/service-" + i);
+            service.setDisplayName("Service " + i);
+            service.setHeaders(Map.of("Content-Type", "application/json"));
+            definitions.add(service);
+        }
+        registry = ServiceRegistry.from(definitions, PipelineTelemetry.noop());
+
+        // Spread lookups across the list so the scan is measured at its average depth. The names are
+        // distinct String instances, as names parsed from a request would be.
+        lookups = new String[1024];
+        for (int i = 0; i < lookups.length; i++) {
+            lookups[i] = "service-" + (i * 7919 % services);
+        }
+
+        stateByValue = new HashMap<>();
+        stateByIdentity = new IdentityHashMap<>();
+        registry.entries().forEach(entry -> {
+            stateByValue.put(entry, new Object());
+            stateByIdentity.put(entry, new Object());
+        });
+        entries = new ServiceRegistry.Entry[lookups.length];
+        for (int i = 0; i < entries.length; i++) {
+            entries[i] = registry.get(lookups[i]);
+        }
+    }
+
+    @Benchmark
+    public String linearScan() {
+        String name = nextName();
+        ExternalServiceConfig.ServiceDefinition service = definitions.stream()
+            .filter(definition -> definition.getName().equals(name))
+            .findFirst()
+            .orElse(null);
+        String displayName = definitions.stream()
+            .filter(definition -> definition.getName().equals(name))
+            .map(definition -> definition.getDisplayName() != null ? definition.getDisplayName() : definition.getName())
+            .findFirst()
+            .orElse(name);
+        return service != null ? displayName : null;
+    }
+
+    @Benchmark
+    public String indexedLookup() {
+        String name = nextName();
+        ServiceRegistry.Entry service = registry.get(name);
+        return service != null ? service.displayName() : null;
+    }
+
+    @Benchmark
+    public Object stateByEntryValue() {
+        return stateByValue.get(nextEntry());
+    }
+
+    @Benchmark
+    public Object stateByEntryIdentity() {
+        return stateByIdentity.get(nextEntry());
+    }
+
+    private ServiceRegistry.Entry nextEntry() {
+        return entries[next++ & (entries.length - 1)];
+    }
+
+    private String nextName() {
+        return lookups[next++ & (lookups.length - 1)];
+    }
+}
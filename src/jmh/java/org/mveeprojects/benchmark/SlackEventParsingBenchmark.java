@@ -0,0 +1,82 @@
+package org.mveeprojects.benchmark;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.mveeprojects.model.SlackEventEnvelope;
+import org.mveeprojects.security.SlackSignatureVerifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The per-request work on /slack/events before the ack: signature check and envelope binding
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SlackEventParsingBenchmark {
+
+    private static final String TIMESTAMP = "1700000000";
+
+    private byte[] body;
+    private byte[] signature;
+    private ObjectReader envelopeReader;
+    private ObjectMapper treeMapper;
+    private SlackSignatureVerifier verifier;
+
+    @Setup
+    public void setUp() {
+        body = """
+            {"token":"verification-token","team_id":"T123","api_app_id":"A123",
+             "event":{"type":"app_mention","user":"U123","text":"<@U0BOT> workflow please",
+                      "ts":"1700000000.000100","channel":"C123","event_ts":"1700000000.000100",
+                      "blocks":[{"type":"rich_text","block_id":"b1","elements":[]}]},
+             "type":"event_callback","event_id":"Ev0123456789","event_time":1700000000,
+             "authorizations":[{"enterprise_id":null,"team_id":"T123","user_id":"U0BOT","is_bot":true}]}
+            """.getBytes(StandardCharsets.UTF_8);
+
+        ObjectMapper appMapper = new ObjectMapper()
+            .registerModule(new BlackbirdModule())
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .disable(DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES);
+        envelopeReader = appMapper.readerFor(SlackEventEnvelope.class);
+        treeMapper = new ObjectMapper();
+
+        verifier = new SlackSignatureVerifier("benchmark-signing-secret", Duration.ofMinutes(5));
+        signature = verifier.sign(TIMESTAMP, body);
+    }
+
+    /** What SlackEventController does today */
+    @Benchmark
+    public SlackEventEnvelope bindEnvelope() throws IOException {
+        return envelopeReader.readValue(body);
+    }
+
+    /** The previous tree-walking approach, kept as a baseline */
+    @Benchmark
+    public String readTreeAndNavigate() throws IOException {
+        JsonNode root = treeMapper.readTree(body);
+        JsonNode event = root.path("event");
+        return root.path("type").asText() + event.path("type").asText() + event.path("channel").asText()
+            + event.path("text").asText() + root.path("event_id").asText();
+    }
+
+    /** HMAC and constant-time compare, without the replay cache */
+    @Benchmark
+    public boolean checkSignature() {
+        return MessageDigest.isEqual(verifier.sign(TIMESTAMP, body), signature);
+    }
+}
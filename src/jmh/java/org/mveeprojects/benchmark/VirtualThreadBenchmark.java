@@ -0,0 +1,114 @@
+package org.mveeprojects.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mveeprojects.config.SlackProperties;
+import org.mveeprojects.handler.HandlerLimits;
+import org.mveeprojects.handler.SlackEventHandler;
+import org.mveeprojects.handler.SlackHandlerRegistry;
+import org.mveeprojects.model.SlackEvent;
+import org.mveeprojects.model.SlackEventEnvelope;
+import org.mveeprojects.service.MarkdownRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A burst of workflow-shaped events (block on an upstream, render, block on Slack) dispatched
+ * through the app's own handler lane, on platform threads versus one virtual thread per task
+ * (slack.handlers.virtual-threads). Both run under the same lane limits; the blocking is simulated
+ * with sleeps so the benchmark measures the lane's scheduling, not the network.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class VirtualThreadBenchmark {
+
+    private static final String EVENT_TYPE = "benchmark_workflow";
+
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    @Param({"200", "2000"})
+    public int concurrency;
+
+    @Param({"200"})
+    public int laneConcurrency;
+
+    @Param({"20"})
+    public int blockingMillis;
+
+    private SlackHandlerRegistry registry;
+    private MarkdownRenderer renderer;
+    private JsonNode payload;
+    private SlackEventEnvelope envelope;
+    private volatile CountDownLatch remaining;
+    private volatile Blackhole blackhole;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SlackProperties properties = new SlackProperties();
+        properties.getHandlers().setVirtualThreads("virtual".equals(threads));
+        registry = new SlackHandlerRegistry(List.of(new WorkflowShapedHandler()), List.of(),
+                                            properties, new SimpleMeterRegistry());
+        renderer = new MarkdownRenderer();
+        payload = Payloads.json("primary-data");
+        envelope = new SlackEventEnvelope("event_callback", null, "Ev1", "T1",
+            new SlackEvent(EVENT_TYPE, "C123", "U123", "run", "1234567890.123456", null));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        registry.shutdown();
+    }
+
+    @Benchmark
+    public void burst(Blackhole blackhole) throws InterruptedException {
+        this.blackhole = blackhole;
+        remaining = new CountDownLatch(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            if (!registry.dispatchEvent(envelope)) {
+                throw new IllegalStateException("Lane rejected a workflow; raise its queue capacity");
+            }
+        }
+        remaining.await();
+    }
+
+    private class WorkflowShapedHandler implements SlackEventHandler {
+        @Override
+        public String eventType() {
+            return EVENT_TYPE;
+        }
+
+        @Override
+        public void handle(SlackEventEnvelope event) {
+            try {
+                Thread.sleep(blockingMillis);
+                blackhole.consume(renderer.renderJsonToMarkdown(payload));
+                Thread.sleep(blockingMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                remaining.countDown();
+            }
+        }
+
+        @Override
+        public HandlerLimits limits() {
+            // Every task in the burst is admitted: the lane is measured, not its rejections
+            return new HandlerLimits(laneConcurrency, concurrency);
+        }
+    }
+}
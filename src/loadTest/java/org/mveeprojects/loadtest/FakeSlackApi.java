@@ -0,0 +1,91 @@
+package org.mveeprojects.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local stand-in for the Slack Web API methods the bot calls, so load tests never leave the machine.
+ * Every call waits {@code latency}; a {@code rateLimitedFraction} of calls get a 429 with Retry-After,
+ * the way Slack answers when a workspace exceeds its rate tier.
+ */
+final class FakeSlackApi implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Duration latency;
+    private final double rateLimitedFraction;
+    private final AtomicLong messages = new AtomicLong();
+    private final AtomicLong rateLimited = new AtomicLong();
+
+    FakeSlackApi(Duration latency, double rateLimitedFraction) throws IOException {
+        this.latency = latency;
+        this.rateLimitedFraction = rateLimitedFraction;
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        this.server.createContext("/api/chat.postMessage", this::handleMessage);
+        this.server.createContext("/api/chat.update", this::handleMessage);
+        this.server.setExecutor(executor);
+        this.server.start();
+    }
+
+    /**
+     * Value for the slack.api-url property
+     */
+    String apiUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + "/api/";
+    }
+
+    long messages() {
+        return messages.get();
+    }
+
+    long rateLimited() {
+        return rateLimited.get();
+    }
+
+    private void handleMessage(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            exchange.getRequestBody().readAllBytes();
+            if (!latency.isZero()) {
+                Thread.sleep(latency);
+            }
+
+            if (ThreadLocalRandom.current().nextDouble() < rateLimitedFraction) {
+                rateLimited.incrementAndGet();
+                exchange.getResponseHeaders().add("Retry-After", "1");
+                respond(exchange, 429, "{\"ok\":false,\"error\":\"ratelimited\"}");
+                return;
+            }
+
+            long ts = messages.incrementAndGet();
+            respond(exchange, 200, "{\"ok\":true,\"channel\":\"C0LOADTEST\",\"ts\":\"1700000000."
+                + String.format("%06d", ts % 1_000_000) + "\"}");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
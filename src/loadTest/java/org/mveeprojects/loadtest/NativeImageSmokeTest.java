@@ -0,0 +1,100 @@
+package org.mveeprojects.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Boots the native executable and the boot jar as real processes against the WireMock upstreams
+ * and a {@link FakeSlackApi}. Each must serve /health, /api/workflow/services and a full workflow.
+ * Records time-to-first-response and resident memory for both in build/reports/native/footprint.json.
+ * Run with ./gradlew nativeSmokeTest, which builds both artifacts first.
+ */
+@EnabledIfSystemProperty(named = "native.executable", matches = ".+")
+class NativeImageSmokeTest {
+
+    private static final Duration READY_TIMEOUT = Duration.ofSeconds(60);
+    private static final int WORKFLOW_RUNS = 20;
+
+    private static final Path REPORT_DIR = Path.of(System.getProperty("native.reportDir", "build/reports/native"));
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final Map<String, Map<String, Object>> footprints = new LinkedHashMap<>();
+
+    private static WireMockServer primaryApi;
+    private static WireMockServer secondaryApi;
+    private static FakeSlackApi slackApi;
+
+    @BeforeAll
+    static void startDependencies() throws IOException {
+        primaryApi = AppProcess.upstream("wiremock/primary-api");
+        secondaryApi = AppProcess.upstream("wiremock/secondary-api");
+        slackApi = new FakeSlackApi(Duration.ZERO, 0);
+        Files.createDirectories(REPORT_DIR);
+    }
+
+    @AfterAll
+    static void writeReport() throws IOException {
+        primaryApi.stop();
+        secondaryApi.stop();
+        slackApi.close();
+
+        mapper.writer(SerializationFeature.INDENT_OUTPUT).writeValue(REPORT_DIR.resolve("footprint.json").toFile(), footprints);
+        footprints.forEach((build, footprint) -> System.out.println(build + ": " + footprint));
+    }
+
+    @Test
+    void nativeExecutable() throws Exception {
+        smokeTest("native", List.of(System.getProperty("native.executable")));
+    }
+
+    @Test
+    void jvmBootJar() throws Exception {
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        smokeTest("jvm", List.of(java, "-jar", System.getProperty("native.bootJar")));
+    }
+
+    private void smokeTest(String build, List<String> command) throws Exception {
+        try (AppProcess app = AppProcess.start(build, command, REPORT_DIR, slackApi, primaryApi, secondaryApi)) {
+            long readyMillis = app.awaitReady(READY_TIMEOUT);
+            long rssAtReady = app.residentSetKb();
+
+            HttpResponse<String> health = app.get("/health");
+            assertEquals("UP", mapper.readTree(health.body()).path("status").asText());
+
+            HttpResponse<String> services = app.get("/api/workflow/services");
+            assertEquals(200, services.statusCode(), services.body());
+            assertEquals(2, mapper.readTree(services.body()).path("totalServices").asInt(), services.body());
+
+            // Exercises Jackson binding, WebClient over Reactor Netty and the Slack SDK's Gson models
+            long messagesBefore = slackApi.messages();
+            for (int i = 0; i < WORKFLOW_RUNS; i++) {
+                HttpResponse<String> workflow = app.postJson("/api/workflow/trigger",
+                    "{\"channel\":\"C0SMOKE\",\"threadTs\":\"1700000000.000001\"}");
+                assertEquals(200, workflow.statusCode(), workflow.body());
+            }
+            assertTrue(slackApi.messages() > messagesBefore, "Workflow should have posted to the fake Slack API");
+
+            Map<String, Object> footprint = new LinkedHashMap<>();
+            footprint.put("readyMillis", readyMillis);
+            footprint.put("rssAtReadyKb", rssAtReady);
+            footprint.put("rssAfterWorkflowsKb", app.residentSetKb());
+            footprints.put(build, footprint);
+        }
+    }
+}
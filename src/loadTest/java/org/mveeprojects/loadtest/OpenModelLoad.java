@@ -0,0 +1,101 @@
+package org.mveeprojects.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongFunction;
+
+/**
+ * Open-model load: requests are started on a fixed arrival schedule whether or not earlier ones
+ * have finished, so a slow server builds a queue instead of slowing the generator down.
+ * Latency is measured from each request's scheduled start, which avoids coordinated omission.
+ */
+final class OpenModelLoad {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client;
+
+    OpenModelLoad(HttpClient client) {
+        this.client = client;
+    }
+
+    /**
+     * @param requests builds the i-th request
+     */
+    LoadResult run(String scenario, double ratePerSecond, Duration duration, LongFunction<HttpRequest.Builder> requests) {
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond);
+        long total = (long) (ratePerSecond * duration.toNanos() / TimeUnit.SECONDS.toNanos(1));
+        Histogram latencies = new ConcurrentHistogram(TimeUnit.MINUTES.toNanos(1), 3);
+        AtomicLong errors = new AtomicLong();
+        List<CompletableFuture<?>> inFlight = new ArrayList<>((int) total);
+
+        long startedAt = System.nanoTime();
+        for (long i = 0; i < total; i++) {
+            long intendedStart = startedAt + i * intervalNanos;
+            long wait = intendedStart - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            HttpRequest request = requests.apply(i)
+                .timeout(REQUEST_TIMEOUT)
+                .build();
+            inFlight.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, failure) -> {
+                    latencies.recordValue(Math.min(System.nanoTime() - intendedStart, latencies.getHighestTrackableValue()));
+                    if (failure != null || response.statusCode() >= 400) {
+                        errors.incrementAndGet();
+                    }
+                }));
+        }
+        CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new))
+            .exceptionally(ignored -> null)
+            .join();
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        return new LoadResult(
+            scenario,
+            ratePerSecond,
+            total,
+            errors.get(),
+            total / (elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1)),
+            millis(latencies.getValueAtPercentile(50)),
+            millis(latencies.getValueAtPercentile(90)),
+            millis(latencies.getValueAtPercentile(99)),
+            millis(latencies.getValueAtPercentile(99.9)),
+            millis(latencies.getMaxValue())
+        );
+    }
+
+    private static double millis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Latencies in milliseconds; throughput is completed requests per second of wall time
+     */
+    record LoadResult(String scenario, double targetRate, long requests, long errors, double throughput,
+                      double p50, double p90, double p99, double p999, double max) {
+
+        double errorRate() {
+            return requests == 0 ? 0 : errors / (double) requests;
+        }
+
+        String summary() {
+            return String.format(
+                "%-16s target=%.0f/s sent=%d errors=%d (%.2f%%) throughput=%.1f/s p50=%.1fms p90=%.1fms p99=%.1fms p99.9=%.1fms max=%.1fms",
+                scenario, targetRate, requests, errors, errorRate() * 100, throughput, p50, p90, p99, p999, max);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package org.mveeprojects.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.mveeprojects.security.SlackSignatureFilter;
+import org.mveeprojects.security.SlackSignatureVerifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drives the running application end to end: WireMock upstreams loaded from wiremock/,
+ * a {@link FakeSlackApi} for chat.postMessage, and real HTTP on a random port.
+ * Run with ./gradlew loadTest; see the task in build.gradle for the tunable properties.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("prod")
+class SlackBotLoadTest {
+
+    private static final String SIGNING_SECRET = "load-test-signing-secret";
+
+    private static final double RATE = doubleSetting("loadtest.rate", 50);
+    private static final Duration DURATION = Duration.ofSeconds((long) doubleSetting("loadtest.duration", 20));
+    private static final double MAX_ERROR_RATE = doubleSetting("loadtest.maxErrorRate", 0.01);
+
+    private static final WireMockServer primaryApi = upstream("wiremock/primary-api");
+    private static final WireMockServer secondaryApi = upstream("wiremock/secondary-api");
+    private static final FakeSlackApi slackApi = fakeSlack();
+
+    private static final Map<String, OpenModelLoad.LoadResult> results = new ConcurrentHashMap<>();
+
+    private final HttpClient client = HttpClient.newBuilder()
+        .executor(Executors.newVirtualThreadPerTaskExecutor())
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+    private final OpenModelLoad load = new OpenModelLoad(client);
+    private final SlackSignatureVerifier signer = new SlackSignatureVerifier(SIGNING_SECRET, Duration.ofMinutes(5));
+
+    @LocalServerPort
+    private int port;
+
+    @DynamicPropertySource
+    static void environment(DynamicPropertyRegistry registry) {
+        registry.add("slack.bot-token", () -> "xoxb-load-test");
+        registry.add("slack.signing-secret", () -> SIGNING_SECRET);
+        registry.add("slack.api-url", slackApi::apiUrl);
+        registry.add("external.services[0].name", () -> "primary-api");
+        registry.add("external.services[0].url", () -> primaryApi.baseUrl() + "/api/primary");
+        registry.add("external.services[0].display-name", () -> "Primary Data Service");
+        registry.add("external.services[0].timeout", () -> 5000);
+        registry.add("external.services[0].retry-attempts", () -> 0);
+        registry.add("external.services[0].headers.Authorization", () -> "Bearer load-test");
+        registry.add("external.services[1].name", () -> "secondary-api");
+        registry.add("external.services[1].url", () -> secondaryApi.baseUrl() + "/api/secondary");
+        registry.add("external.services[1].display-name", () -> "Secondary Analytics Service");
+        registry.add("external.services[1].timeout", () -> 8000);
+        registry.add("external.services[1].retry-attempts", () -> 0);
+        registry.add("external.services[1].headers.X-API-Key", () -> "load-test");
+    }
+
+    @Test
+    void workflowExecute() {
+        String body = "{\"channel\":\"C0LOADTEST\",\"threadTs\":\"1700000000.000100\"}";
+        OpenModelLoad.LoadResult result = load.run("workflow-execute", RATE, DURATION, i ->
+            HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/workflow/execute"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body)));
+
+        report(result);
+        assertTrue(result.errorRate() <= MAX_ERROR_RATE, result.summary());
+    }
+
+    @Test
+    void slackEvents() {
+        OpenModelLoad.LoadResult result = load.run("slack-events", RATE, DURATION, i -> {
+            byte[] body = appMention("EvLoad" + System.nanoTime() + "x" + i);
+            String timestamp = Long.toString(System.currentTimeMillis() / 1000);
+            return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/slack/events"))
+                .header("Content-Type", "application/json")
+                .header(SlackSignatureFilter.TIMESTAMP_HEADER, timestamp)
+                .header(SlackSignatureFilter.SIGNATURE_HEADER,
+                        new String(signer.sign(timestamp, body), StandardCharsets.US_ASCII))
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body));
+        });
+
+        report(result);
+        assertTrue(result.errorRate() <= MAX_ERROR_RATE, result.summary());
+    }
+
+    @AfterAll
+    static void writeReport() throws IOException {
+        try {
+            Path dir = Path.of(System.getProperty("loadtest.reportDir", "build/reports/loadtest"));
+            Files.createDirectories(dir);
+            Map<String, Object> report = new TreeMap<>(results);
+            report.put("fake-slack", Map.of("messages", slackApi.messages(), "rateLimited", slackApi.rateLimited()));
+            new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(dir.resolve("results.json").toFile(), report);
+            System.out.println("Load test report written to " + dir.resolve("results.json"));
+        } finally {
+            primaryApi.stop();
+            secondaryApi.stop();
+            slackApi.close();
+        }
+    }
+
+    private static void report(OpenModelLoad.LoadResult result) {
+        results.put(result.scenario(), result);
+        System.out.println(result.summary());
+    }
+
+    private static byte[] appMention(String eventId) {
+        return ("""
+            {"type":"event_callback","event_id":"%s","team_id":"T0LOADTEST",
+             "event":{"type":"app_mention","channel":"C0LOADTEST","user":"U0LOADTEST",
+                      "text":"<@U0BOT> help","ts":"1700000000.000100"}}
+            """.formatted(eventId)).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static WireMockServer upstream(String mappingsRoot) {
+        WireMockServer server = new WireMockServer(wireMockConfig()
+            .dynamicPort()
+            .usingFilesUnderDirectory(mappingsRoot)
+            .globalTemplating(true)
+            .containerThreads(64));
+        server.start();
+        return server;
+    }
+
+    private static FakeSlackApi fakeSlack() {
+        try {
+            return new FakeSlackApi(
+                Duration.ofMillis((long) doubleSetting("loadtest.slack.latencyMs", 50)),
+                doubleSetting("loadtest.slack.rateLimitedFraction", 0));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static double doubleSetting(String name, double defaultValue) {
+        String value = System.getProperty(name);
+        return value == null || value.isBlank() ? defaultValue : Double.parseDouble(value);
+    }
+}
@@ -0,0 +1,119 @@
+package org.mveeprojects.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Starts the servlet (Tomcat) and reactive (Netty) boot jars as separate processes and compares
+ * time-to-first-response, resident memory and OS threads, at ready and after a burst of concurrent
+ * workflows. Written to build/reports/footprint/web-stack.json.
+ * Build both jars first: ./gradlew bootJar && ./gradlew bootJar -PwebStack=reactive && ./gradlew webStackFootprint
+ */
+@EnabledIfSystemProperty(named = "footprint.servletJar", matches = ".+")
+class WebStackFootprintTest {
+
+    private static final Duration READY_TIMEOUT = Duration.ofSeconds(60);
+    private static final int CONCURRENT_WORKFLOWS = 50;
+
+    private static final Path REPORT_DIR = Path.of(System.getProperty("footprint.reportDir", "build/reports/footprint"));
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final Map<String, Map<String, Object>> footprints = new LinkedHashMap<>();
+
+    private static WireMockServer primaryApi;
+    private static WireMockServer secondaryApi;
+    private static FakeSlackApi slackApi;
+
+    @BeforeAll
+    static void startDependencies() throws IOException {
+        primaryApi = AppProcess.upstream("wiremock/primary-api");
+        secondaryApi = AppProcess.upstream("wiremock/secondary-api");
+        slackApi = new FakeSlackApi(Duration.ofMillis(50), 0);
+        Files.createDirectories(REPORT_DIR);
+    }
+
+    @AfterAll
+    static void writeReport() throws IOException {
+        primaryApi.stop();
+        secondaryApi.stop();
+        slackApi.close();
+
+        mapper.writer(SerializationFeature.INDENT_OUTPUT).writeValue(REPORT_DIR.resolve("web-stack.json").toFile(), footprints);
+        footprints.forEach((stack, footprint) -> System.out.println(stack + ": " + footprint));
+    }
+
+    @Test
+    void servletStack() throws Exception {
+        measure("servlet", System.getProperty("footprint.servletJar"));
+    }
+
+    @Test
+    void reactiveStack() throws Exception {
+        measure("reactive", System.getProperty("footprint.reactiveJar"));
+    }
+
+    private void measure(String stack, String jar) throws Exception {
+        assumeTrue(Files.exists(Path.of(jar)), () -> jar + " not found; build it with ./gradlew bootJar"
+            + ("reactive".equals(stack) ? " -PwebStack=reactive" : ""));
+
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        try (AppProcess app = AppProcess.start(stack, List.of(java, "-jar", jar), REPORT_DIR, slackApi, primaryApi, secondaryApi);
+             ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            long readyMillis = app.awaitReady(READY_TIMEOUT);
+            long rssAtReady = app.residentSetKb();
+            long threadsAtReady = app.threads();
+
+            HttpResponse<String> services = app.get("/api/workflow/services");
+            assertEquals(200, services.statusCode(), services.body());
+            assertEquals(2, mapper.readTree(services.body()).path("totalServices").asInt(), services.body());
+
+            List<CompletableFuture<HttpResponse<String>>> workflows = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_WORKFLOWS; i++) {
+                workflows.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return app.postJson("/api/workflow/trigger", "{\"channel\":\"C0FOOTPRINT\",\"threadTs\":\"1700000000.000001\"}");
+                    } catch (IOException | InterruptedException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }, clients));
+            }
+            long threadsUnderLoad = threadsAtReady;
+            while (!CompletableFuture.allOf(workflows.toArray(CompletableFuture[]::new)).isDone()) {
+                threadsUnderLoad = Math.max(threadsUnderLoad, app.threads());
+                Thread.sleep(20);
+            }
+            for (CompletableFuture<HttpResponse<String>> workflow : workflows) {
+                assertEquals(200, workflow.get().statusCode(), workflow.get().body());
+            }
+
+            Map<String, Object> footprint = new LinkedHashMap<>();
+            footprint.put("readyMillis", readyMillis);
+            footprint.put("rssAtReadyKb", rssAtReady);
+            footprint.put("rssAfterWorkflowsKb", app.residentSetKb());
+            footprint.put("threadsAtReady", threadsAtReady);
+            footprint.put("peakThreadsUnderLoad", threadsUnderLoad);
+            footprints.put(stack, footprint);
+        }
+    }
+}
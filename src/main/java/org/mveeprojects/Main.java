@@ -2,10 +2,14 @@ package org.mveeprojects;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 
 @SpringBootApplication
 public class Main {
     public static void main(String[] args) {
-        SpringApplication.run(Main.class, args);
+        SpringApplication application = new SpringApplication(Main.class);
+        // Keeps startup steps for /actuator/startup
+        application.setApplicationStartup(new BufferingApplicationStartup(2048));
+        application.run(args);
     }
-}
\ No newline at end of file
+}
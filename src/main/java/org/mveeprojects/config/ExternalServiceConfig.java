@@ -2,15 +2,19 @@ package org.mveeprojects.config;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 @Configuration
 @ConfigurationProperties(prefix = "external")
 public class ExternalServiceConfig {
 
     private List<ServiceDefinition> services;
+    private Reload reload = new Reload();
 
     public List<ServiceDefinition> getServices() {
         return services;
@@ -20,6 +24,48 @@ public class ExternalServiceConfig {
         this.services = services;
     }
 
+    public Reload getReload() {
+        return reload;
+    }
+
+    public void setReload(Reload reload) {
+        this.reload = reload;
+    }
+
+    /**
+     * Where services are reloaded from at runtime. The file has the same shape as this section
+     * (external.services: [...]) and replaces the services above when set.
+     */
+    public static class Reload {
+        private String file;
+        private boolean watch = true;
+        private Duration debounce = Duration.ofMillis(500);
+
+        public String getFile() {
+            return file;
+        }
+
+        public void setFile(String file) {
+            this.file = file;
+        }
+
+        public boolean isWatch() {
+            return watch;
+        }
+
+        public void setWatch(boolean watch) {
+            this.watch = watch;
+        }
+
+        public Duration getDebounce() {
+            return debounce;
+        }
+
+        public void setDebounce(Duration debounce) {
+            this.debounce = debounce;
+        }
+    }
+
     public static class ServiceDefinition {
         private String name;
         private String url;
@@ -27,6 +73,8 @@ public class ExternalServiceConfig {
         private int timeout = 5000;
         private int retryAttempts = 1;
         private Map<String, String> headers;
+        private Bulkhead bulkhead = new Bulkhead();
+        private Compression compression = new Compression();
 
         public String getName() {
             return name;
@@ -75,5 +123,235 @@ public class ExternalServiceConfig {
         public void setHeaders(Map<String, String> headers) {
             this.headers = headers;
         }
+
+        public Bulkhead getBulkhead() {
+            return bulkhead;
+        }
+
+        public void setBulkhead(Bulkhead bulkhead) {
+            this.bulkhead = bulkhead;
+        }
+
+        public Compression getCompression() {
+            return compression;
+        }
+
+        public void setCompression(Compression compression) {
+            this.compression = compression;
+        }
+
+        /**
+         * Value equality, so a reload can tell which services actually changed
+         */
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ServiceDefinition that)) {
+                return false;
+            }
+            return timeout == that.timeout
+                && retryAttempts == that.retryAttempts
+                && Objects.equals(name, that.name)
+                && Objects.equals(url, that.url)
+                && Objects.equals(displayName, that.displayName)
+                && Objects.equals(headers, that.headers)
+                && Objects.equals(bulkhead, that.bulkhead)
+                && Objects.equals(compression, that.compression);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, url, displayName, timeout, retryAttempts, headers, bulkhead, compression);
+        }
+
+        /**
+         * Opt-in compressed transfers. The encodings (gzip and deflate) are offered in Accept-Encoding
+         * and the response is inflated as it streams into the JSON parser, failing once it grows past
+         * max-decompressed-size.
+         */
+        public static class Compression {
+            private boolean enabled = false;
+            private List<String> encodings = List.of("gzip", "deflate");
+            private DataSize maxDecompressedSize = DataSize.ofMegabytes(16);
+
+            public boolean isEnabled() {
+                return enabled;
+            }
+
+            public void setEnabled(boolean enabled) {
+                this.enabled = enabled;
+            }
+
+            public List<String> getEncodings() {
+                return encodings;
+            }
+
+            public void setEncodings(List<String> encodings) {
+                this.encodings = encodings;
+            }
+
+            public DataSize getMaxDecompressedSize() {
+                return maxDecompressedSize;
+            }
+
+            public void setMaxDecompressedSize(DataSize maxDecompressedSize) {
+                this.maxDecompressedSize = maxDecompressedSize;
+            }
+
+            @Override
+            public boolean equals(Object o) {
+                if (this == o) {
+                    return true;
+                }
+                if (!(o instanceof Compression that)) {
+                    return false;
+                }
+                return enabled == that.enabled
+                    && Objects.equals(encodings, that.encodings)
+                    && Objects.equals(maxDecompressedSize, that.maxDecompressedSize);
+            }
+
+            @Override
+            public int hashCode() {
+                return Objects.hash(enabled, encodings, maxDecompressedSize);
+            }
+        }
+
+        /**
+         * Limits on the service's own connection pool and concurrent fetches, so a slow service
+         * cannot use up connections or threads the others need
+         */
+        public static class Bulkhead {
+            private int maxConnections = 50;
+            private int maxInFlight = 50;
+            private int queueCapacity = 100;
+            private Adaptive adaptive = new Adaptive();
+
+            public int getMaxConnections() {
+                return maxConnections;
+            }
+
+            public void setMaxConnections(int maxConnections) {
+                this.maxConnections = maxConnections;
+            }
+
+            public int getMaxInFlight() {
+                return maxInFlight;
+            }
+
+            public void setMaxInFlight(int maxInFlight) {
+                this.maxInFlight = maxInFlight;
+            }
+
+            public int getQueueCapacity() {
+                return queueCapacity;
+            }
+
+            public void setQueueCapacity(int queueCapacity) {
+                this.queueCapacity = queueCapacity;
+            }
+
+            public Adaptive getAdaptive() {
+                return adaptive;
+            }
+
+            public void setAdaptive(Adaptive adaptive) {
+                this.adaptive = adaptive;
+            }
+
+            @Override
+            public boolean equals(Object o) {
+                if (this == o) {
+                    return true;
+                }
+                if (!(o instanceof Bulkhead that)) {
+                    return false;
+                }
+                return maxConnections == that.maxConnections
+                    && maxInFlight == that.maxInFlight
+                    && queueCapacity == that.queueCapacity
+                    && Objects.equals(adaptive, that.adaptive);
+            }
+
+            @Override
+            public int hashCode() {
+                return Objects.hash(maxConnections, maxInFlight, queueCapacity, adaptive);
+            }
+
+            /**
+             * Opt-in AIMD adjustment of the in-flight limit from observed latency; max-in-flight
+             * becomes the ceiling. Disabled (the default), the limit stays at max-in-flight. Unset,
+             * the limit starts at max-in-flight and the latency threshold is half the service's timeout.
+             */
+            public static class Adaptive {
+                private boolean enabled = false;
+                private Integer initialLimit;
+                private int minLimit = 1;
+                private double backoffRatio = 0.9;
+                private Duration latencyThreshold;
+
+                public boolean isEnabled() {
+                    return enabled;
+                }
+
+                public void setEnabled(boolean enabled) {
+                    this.enabled = enabled;
+                }
+
+                public Integer getInitialLimit() {
+                    return initialLimit;
+                }
+
+                public void setInitialLimit(Integer initialLimit) {
+                    this.initialLimit = initialLimit;
+                }
+
+                public int getMinLimit() {
+                    return minLimit;
+                }
+
+                public void setMinLimit(int minLimit) {
+                    this.minLimit = minLimit;
+                }
+
+                public double getBackoffRatio() {
+                    return backoffRatio;
+                }
+
+                public void setBackoffRatio(double backoffRatio) {
+                    this.backoffRatio = backoffRatio;
+                }
+
+                public Duration getLatencyThreshold() {
+                    return latencyThreshold;
+                }
+
+                public void setLatencyThreshold(Duration latencyThreshold) {
+                    this.latencyThreshold = latencyThreshold;
+                }
+
+                @Override
+                public boolean equals(Object o) {
+                    if (this == o) {
+                        return true;
+                    }
+                    if (!(o instanceof Adaptive that)) {
+                        return false;
+                    }
+                    return enabled == that.enabled
+                        && Objects.equals(initialLimit, that.initialLimit)
+                        && minLimit == that.minLimit
+                        && Double.compare(backoffRatio, that.backoffRatio) == 0
+                        && Objects.equals(latencyThreshold, that.latencyThreshold);
+                }
+
+                @Override
+                public int hashCode() {
+                    return Objects.hash(enabled, initialLimit, minLimit, backoffRatio, latencyThreshold);
+                }
+            }
+        }
     }
 }
@@ -0,0 +1,33 @@
+package org.mveeprojects.config;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.NativeDetector;
+
+/**
+ * Tuning for the shared, Spring-managed ObjectMapper
+ */
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Replaces reflective property access with generated lambdas; picked up by Spring Boot automatically.
+     * A native image cannot define classes at runtime, so it keeps plain reflection there.
+     */
+    @Bean
+    public Module blackbirdModule() {
+        return NativeDetector.inNativeImage() ? new SimpleModule("blackbird-disabled") : new BlackbirdModule();
+    }
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer lenientJsonCustomizer() {
+        return builder -> builder
+            .failOnUnknownProperties(false)
+            .featuresToDisable(DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES);
+    }
+}
@@ -0,0 +1,68 @@
+package org.mveeprojects.config;
+
+import org.mveeprojects.model.SlackEvent;
+import org.mveeprojects.model.SlackEventEnvelope;
+import org.mveeprojects.model.SlashCommand;
+import org.mveeprojects.model.SlashCommandResponse;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.SimpleMetadataReaderFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Reachability metadata for the native image that Spring AOT cannot infer on its own.
+ * Netty, Reactor Netty and OkHttp ship their own metadata or get it from the GraalVM
+ * metadata repository (enabled in build.gradle).
+ */
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.SlackSdkHints.class)
+@RegisterReflectionForBinding({SlackEventEnvelope.class, SlackEvent.class, SlashCommand.class, SlashCommandResponse.class})
+public class NativeHintsConfig {
+
+    /**
+     * The Slack SDK binds requests and responses with Gson, which reflects over every field of
+     * the model graph (messages, blocks, attachments...) and instantiates its @JsonAdapter
+     * factories reflectively. The packages are scanned at build time rather than listed by hand,
+     * so an SDK upgrade that adds model classes is still covered.
+     */
+    static class SlackSdkHints implements RuntimeHintsRegistrar {
+
+        private static final List<String> PACKAGES = List.of(
+            "com/slack/api/model/**",
+            "com/slack/api/methods/request/chat/**",
+            "com/slack/api/methods/response/chat/**",
+            "com/slack/api/util/json/**"
+        );
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver(classLoader);
+            SimpleMetadataReaderFactory readers = new SimpleMetadataReaderFactory(classLoader);
+            for (String pattern : PACKAGES) {
+                try {
+                    for (Resource resource : resolver.getResources("classpath*:" + pattern + "/*.class")) {
+                        MetadataReader reader = readers.getMetadataReader(resource);
+                        hints.reflection().registerType(
+                            TypeReference.of(reader.getClassMetadata().getClassName()),
+                            MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                            MemberCategory.INVOKE_DECLARED_METHODS,
+                            MemberCategory.DECLARED_FIELDS);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Could not scan " + pattern + " for native hints", e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package org.mveeprojects.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.web.reactive.config.BlockingExecutionConfigurer;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+/**
+ * Settings for the reactive web stack (built with -PwebStack=reactive), where requests arrive on
+ * the Netty event loops that ExternalServiceClient's WebClient also uses
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveWebConfig implements WebFluxConfigurer {
+
+    private final AsyncTaskExecutor blockingExecutor;
+
+    public ReactiveWebConfig(@Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+                             AsyncTaskExecutor blockingExecutor) {
+        this.blockingExecutor = blockingExecutor;
+    }
+
+    /**
+     * The controllers block on the Slack SDK and on upstream fetches, which must never happen on an
+     * event loop. Controller methods that do not return a reactive type run on the application task
+     * executor instead: a pool sized by spring.task.execution.pool, or a virtual thread per request
+     * when spring.threads.virtual.enabled is set.
+     */
+    @Override
+    public void configureBlockingExecution(BlockingExecutionConfigurer configurer) {
+        configurer.setExecutor(blockingExecutor);
+    }
+}
@@ -12,6 +12,12 @@ public class SlackConfig {
     @Value("${slack.bot-token}")
     private String botToken;
 
+    /**
+     * Web API base URL; overridden to point at a local stand-in for load tests
+     */
+    @Value("${slack.api-url:https://slack.com/api/}")
+    private String apiUrl;
+
     @Bean
     public Slack slack() {
         return Slack.getInstance();
@@ -19,6 +25,8 @@ public class SlackConfig {
 
     @Bean
     public MethodsClient slackMethodsClient(Slack slack) {
-        return slack.methods(botToken);
+        MethodsClient methodsClient = slack.methods(botToken);
+        methodsClient.setEndpointUrlPrefix(apiUrl);
+        return methodsClient;
     }
 }
@@ -0,0 +1,25 @@
+package org.mveeprojects.config;
+
+import org.mveeprojects.service.InMemorySlackEventDeduplicator;
+import org.mveeprojects.service.SlackEventDeduplicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SlackEventConfig {
+
+    /**
+     * In-memory deduplication by default; declare another SlackEventDeduplicator
+     * bean (e.g. backed by a shared cache) to share the window across nodes
+     */
+    @Bean
+    @ConditionalOnMissingBean(SlackEventDeduplicator.class)
+    public SlackEventDeduplicator slackEventDeduplicator(SlackProperties slackProperties) {
+        SlackProperties.Events events = slackProperties.getEvents();
+        return new InMemorySlackEventDeduplicator(
+            events.getDeduplicationWindow(),
+            events.getDeduplicationMaxEntries()
+        );
+    }
+}
@@ -3,12 +3,18 @@ package org.mveeprojects.config;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Configuration
 @ConfigurationProperties(prefix = "slack")
 public class SlackProperties {
 
     private String botToken;
     private String signingSecret;
+    private Events events = new Events();
+    private Signature signature = new Signature();
+    private Commands commands = new Commands();
+    private Handlers handlers = new Handlers();
 
     public String getBotToken() {
         return botToken;
@@ -25,4 +31,150 @@ public class SlackProperties {
     public void setSigningSecret(String signingSecret) {
         this.signingSecret = signingSecret;
     }
+
+    public Events getEvents() {
+        return events;
+    }
+
+    public void setEvents(Events events) {
+        this.events = events;
+    }
+
+    public Signature getSignature() {
+        return signature;
+    }
+
+    public void setSignature(Signature signature) {
+        this.signature = signature;
+    }
+
+    public Commands getCommands() {
+        return commands;
+    }
+
+    public void setCommands(Commands commands) {
+        this.commands = commands;
+    }
+
+    public Handlers getHandlers() {
+        return handlers;
+    }
+
+    public void setHandlers(Handlers handlers) {
+        this.handlers = handlers;
+    }
+
+    /**
+     * Settings for handling Slack event callbacks
+     */
+    public static class Events {
+        private Duration deduplicationWindow = Duration.ofMinutes(10);
+        private int deduplicationMaxEntries = 10_000;
+
+        public Duration getDeduplicationWindow() {
+            return deduplicationWindow;
+        }
+
+        public void setDeduplicationWindow(Duration deduplicationWindow) {
+            this.deduplicationWindow = deduplicationWindow;
+        }
+
+        public int getDeduplicationMaxEntries() {
+            return deduplicationMaxEntries;
+        }
+
+        public void setDeduplicationMaxEntries(int deduplicationMaxEntries) {
+            this.deduplicationMaxEntries = deduplicationMaxEntries;
+        }
+    }
+
+    /**
+     * Settings for verifying Slack request signatures
+     */
+    public static class Signature {
+        private boolean enabled = true;
+        private Duration tolerance = Duration.ofMinutes(5);
+        private int maxBodyBytes = 1_048_576;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getTolerance() {
+            return tolerance;
+        }
+
+        public void setTolerance(Duration tolerance) {
+            this.tolerance = tolerance;
+        }
+
+        public int getMaxBodyBytes() {
+            return maxBodyBytes;
+        }
+
+        public void setMaxBodyBytes(int maxBodyBytes) {
+            this.maxBodyBytes = maxBodyBytes;
+        }
+    }
+
+    /**
+     * Settings for handling slash commands
+     */
+    public static class Commands {
+        private Duration responseTimeout = Duration.ofMillis(2500);
+        private String responseUrlPrefix = "https://hooks.slack.com/";
+        private int workflowConcurrency = 2;
+        private int workflowQueueCapacity = 10;
+
+        public Duration getResponseTimeout() {
+            return responseTimeout;
+        }
+
+        public void setResponseTimeout(Duration responseTimeout) {
+            this.responseTimeout = responseTimeout;
+        }
+
+        public String getResponseUrlPrefix() {
+            return responseUrlPrefix;
+        }
+
+        public void setResponseUrlPrefix(String responseUrlPrefix) {
+            this.responseUrlPrefix = responseUrlPrefix;
+        }
+
+        public int getWorkflowConcurrency() {
+            return workflowConcurrency;
+        }
+
+        public void setWorkflowConcurrency(int workflowConcurrency) {
+            this.workflowConcurrency = workflowConcurrency;
+        }
+
+        public int getWorkflowQueueCapacity() {
+            return workflowQueueCapacity;
+        }
+
+        public void setWorkflowQueueCapacity(int workflowQueueCapacity) {
+            this.workflowQueueCapacity = workflowQueueCapacity;
+        }
+    }
+
+    /**
+     * Settings for the executors that run event and command handlers
+     */
+    public static class Handlers {
+        private boolean virtualThreads = false;
+
+        public boolean isVirtualThreads() {
+            return virtualThreads;
+        }
+
+        public void setVirtualThreads(boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
+        }
+    }
 }
@@ -0,0 +1,94 @@
+package org.mveeprojects.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.mveeprojects.security.SlackSignatureFilter;
+import org.mveeprojects.security.SlackSignatureVerifier;
+import org.mveeprojects.security.SlackSignatureWebFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.server.WebFilter;
+
+/**
+ * Signature verification for the web stack the app runs on. The servlet configuration is only
+ * loaded on a servlet server, so the reactive build needs no servlet API at runtime.
+ */
+@Configuration
+public class SlackSecurityConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(SlackSecurityConfig.class);
+
+    @Configuration
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    static class Servlet {
+
+        /**
+         * Verify signatures on every /slack/* request. Only slack.signature.enabled=false
+         * leaves the filter disabled (e.g. for local development).
+         */
+        @Bean
+        public FilterRegistrationBean<SlackSignatureFilter> slackSignatureFilter(SlackProperties slackProperties,
+                                                                                 MeterRegistry meterRegistry) {
+            boolean enabled = signatureEnabled(slackProperties);
+            SlackSignatureFilter filter = new SlackSignatureFilter(
+                verifier(slackProperties, enabled),
+                slackProperties.getSignature().getMaxBodyBytes(),
+                meterRegistry
+            );
+
+            FilterRegistrationBean<SlackSignatureFilter> registration = new FilterRegistrationBean<>(filter);
+            registration.addUrlPatterns("/slack/*");
+            registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+            registration.setEnabled(enabled);
+            return registration;
+        }
+    }
+
+    @Configuration
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    static class Reactive {
+
+        /**
+         * The same check as a WebFilter; it limits itself to /slack/* paths
+         */
+        @Bean
+        public WebFilter slackSignatureWebFilter(SlackProperties slackProperties, MeterRegistry meterRegistry) {
+            if (!signatureEnabled(slackProperties)) {
+                return (exchange, chain) -> chain.filter(exchange);
+            }
+            return new SlackSignatureWebFilter(
+                verifier(slackProperties, true),
+                slackProperties.getSignature().getMaxBodyBytes(),
+                meterRegistry
+            );
+        }
+    }
+
+    /**
+     * Whether to verify signatures. A missing secret fails startup rather than quietly accepting
+     * unsigned requests; turning verification off has to be explicit.
+     *
+     * @throws IllegalStateException if verification is enabled but no signing secret is configured
+     */
+    private static boolean signatureEnabled(SlackProperties slackProperties) {
+        if (!slackProperties.getSignature().isEnabled()) {
+            log.warn("Slack signature verification is disabled (slack.signature.enabled=false)");
+            return false;
+        }
+        String signingSecret = slackProperties.getSigningSecret();
+        if (signingSecret == null || signingSecret.isBlank()) {
+            throw new IllegalStateException("slack.signing-secret (SLACK_SIGNING_SECRET) is not set. "
+                + "Set it, or set slack.signature.enabled=false to run without signature verification.");
+        }
+        return true;
+    }
+
+    private static SlackSignatureVerifier verifier(SlackProperties slackProperties, boolean enabled) {
+        return new SlackSignatureVerifier(enabled ? slackProperties.getSigningSecret() : "unused",
+            slackProperties.getSignature().getTolerance());
+    }
+}
@@ -0,0 +1,27 @@
+package org.mveeprojects.config;
+
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.mveeprojects.telemetry.FileSpanExporter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Span exporters beyond the OTLP one Spring Boot configures from management.otlp.tracing.endpoint.
+ * Every SpanExporter bean receives finished spans, so tests can declare an in-memory one.
+ */
+@Configuration
+public class TracingConfig {
+
+    /**
+     * Decided at runtime rather than with a bean condition, so an AOT-processed build
+     * still honours telemetry.tracing.file
+     */
+    @Bean
+    public SpanExporter fileSpanExporter(@Value("${telemetry.tracing.file:}") String file) throws IOException {
+        return file.isBlank() ? SpanExporter.composite() : new FileSpanExporter(Path.of(file));
+    }
+}
@@ -1,98 +1,108 @@
 package org.mveeprojects.controller;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import org.mveeprojects.service.SlackService;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.mveeprojects.handler.SlackHandlerRegistry;
+import org.mveeprojects.model.SlackEventEnvelope;
+import org.mveeprojects.model.SlashCommand;
+import org.mveeprojects.model.SlashCommandResponse;
+import org.mveeprojects.service.SlackEventDeduplicator;
+import org.mveeprojects.telemetry.SampledLogger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
-import java.util.Map;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/slack")
 public class SlackEventController {
 
-    private final SlackService slackService;
-    private final ObjectMapper objectMapper;
-
-    public SlackEventController(SlackService slackService) {
-        this.slackService = slackService;
-        this.objectMapper = new ObjectMapper();
+    private static final Logger log = LoggerFactory.getLogger(SlackEventController.class);
+    private static final SampledLogger eventFailures = new SampledLogger(log, 5, Duration.ofSeconds(10));
+
+    private final SlackHandlerRegistry handlerRegistry;
+    private final SlackEventDeduplicator slackEventDeduplicator;
+    private final Timer ackTimer;
+    private final Counter duplicateEvents;
+    private final ObjectReader envelopeReader;
+
+    public SlackEventController(SlackHandlerRegistry handlerRegistry,
+                                SlackEventDeduplicator slackEventDeduplicator,
+                                ObjectMapper objectMapper,
+                                MeterRegistry meterRegistry) {
+        this.handlerRegistry = handlerRegistry;
+        this.slackEventDeduplicator = slackEventDeduplicator;
+        this.ackTimer = Timer.builder("slack.events.ack")
+            .description("Time from receiving a Slack event to acknowledging it")
+            .register(meterRegistry);
+        this.duplicateEvents = Counter.builder("slack.events.duplicates")
+            .description("Slack event redeliveries dropped by event_id")
+            .register(meterRegistry);
+        this.envelopeReader = objectMapper.readerFor(SlackEventEnvelope.class);
     }
 
     @PostMapping("/events")
-    public ResponseEntity<String> handleSlackEvents(@RequestBody String requestBody) {
+    public ResponseEntity<String> handleSlackEvents(@RequestBody byte[] requestBody) {
+        long receivedAt = System.nanoTime();
         try {
-            JsonNode event = objectMapper.readTree(requestBody);
+            SlackEventEnvelope envelope = envelopeReader.readValue(requestBody);
 
             // Handle URL verification (required for Slack app setup)
-            if ("url_verification".equals(event.path("type").asText())) {
-                String challenge = event.path("challenge").asText();
-                return ResponseEntity.ok(challenge);
+            if ("url_verification".equals(envelope.type())) {
+                return ResponseEntity.ok(envelope.challenge());
             }
 
-            // Handle app mention events
-            if ("event_callback".equals(event.path("type").asText())) {
-                JsonNode eventData = event.path("event");
-                String eventType = eventData.path("type").asText();
-
-                if ("app_mention".equals(eventType)) {
-                    String channel = eventData.path("channel").asText();
-                    String ts = eventData.path("ts").asText();
-
-                    // Respond to app mentions with helpful information
-                    String responseMessage = """
-                            👋 Hello! I'm your workflow bot.
-                            
-                            **Available endpoints:**
-                            • `POST /api/workflow/execute` - Run all configured services
-                            • `GET /api/workflow/services` - List available services
-                            • `POST /api/workflow/execute/services` - Run specific services""";
+            // Hand event callbacks to their registered handler
+            if ("event_callback".equals(envelope.type()) && envelope.event() != null
+                    && handlerRegistry.hasEventHandler(envelope.event().type())) {
+                // Slack redelivers unacknowledged events with the same event_id
+                String eventId = envelope.eventId();
+                if (eventId != null && slackEventDeduplicator.isDuplicate(eventId)) {
+                    duplicateEvents.increment();
+                    return ResponseEntity.ok("OK");
+                }
 
-                    slackService.postThreadResponse(channel, ts, responseMessage);
+                // Handled on the handler's own executor so the acknowledgement is not held up
+                if (!handlerRegistry.dispatchEvent(envelope)) {
+                    // The handler's lane is full: let Slack redeliver instead of dropping the event
+                    if (eventId != null) {
+                        slackEventDeduplicator.forget(eventId);
+                    }
+                    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("Busy");
                 }
             }
 
-            // Acknowledge all events
+            // Acknowledge everything else
             return ResponseEntity.ok("OK");
 
         } catch (Exception e) {
             // Log error and return OK to avoid retries from Slack
-            System.err.println("Error processing Slack event: " + e.getMessage());
+            eventFailures.warn("event", "Error processing Slack event: {}", e.getMessage());
             return ResponseEntity.ok("OK");
+        } finally {
+            ackTimer.record(System.nanoTime() - receivedAt, TimeUnit.NANOSECONDS);
         }
     }
 
     @PostMapping("/commands")
-    public ResponseEntity<Map<String, String>> handleSlashCommands(@RequestParam String command) {
+    public ResponseEntity<SlashCommandResponse> handleSlashCommands(@ModelAttribute SlashCommand command) {
         try {
-            if ("/ping".equals(command)) {
-                return ResponseEntity.ok(Map.of(
-                    "response_type", "in_channel",
-                    "text", "🏓 Pong! The workflow bot is running and ready to process external APIs."
-                ));
-            }
-
-            if ("/workflow".equals(command)) {
-                return ResponseEntity.ok(Map.of(
-                    "response_type", "ephemeral",
-                    "text", """
-                            Use the REST API endpoints to trigger workflows:
-                            • `POST /api/workflow/execute` - Execute all services
-                            • `GET /api/workflow/services` - List services"""
-                ));
-            }
-
-            return ResponseEntity.ok(Map.of(
-                "response_type", "ephemeral",
-                "text", "Unknown command. Available commands: `/ping`, `/workflow`"
-            ));
-
+            return ResponseEntity.ok(handlerRegistry.dispatchCommand(command));
         } catch (Exception e) {
-            return ResponseEntity.ok(Map.of(
-                "response_type", "ephemeral",
-                "text", "Sorry, there was an error processing your command."
-            ));
+            // Keyed by registered commands only: the command name comes from the request
+            String key = command.command() != null && handlerRegistry.hasCommandHandler(command.command())
+                ? command.command() : "command/other";
+            eventFailures.warn(key, "Error processing {} command: {}",
+                               command.command(), e.getMessage());
+            return ResponseEntity.ok(
+                SlashCommandResponse.ephemeral("Sorry, there was an error processing your command."));
         }
     }
 }
@@ -105,13 +105,13 @@ public class WorkflowController {
     @GetMapping("/services")
     public ResponseEntity<Map<String, Object>> getConfiguredServices() {
         try {
-            List<Map<String, Object>> services = externalServiceClient.getConfiguredServices().stream()
+            List<Map<String, Object>> services = externalServiceClient.getServiceRegistry().entries().stream()
                 .map(service -> Map.<String, Object>of(
-                    "name", service.getName(),
-                    "displayName", service.getDisplayName() != null ? service.getDisplayName() : service.getName(),
-                    "url", service.getUrl(),
-                    "timeout", service.getTimeout(),
-                    "retryAttempts", service.getRetryAttempts()
+                    "name", service.name(),
+                    "displayName", service.displayName(),
+                    "url", service.definition().getUrl(),
+                    "timeout", service.definition().getTimeout(),
+                    "retryAttempts", service.definition().getRetryAttempts()
                 ))
                 .toList();
 
@@ -0,0 +1,38 @@
+package org.mveeprojects.handler;
+
+import org.mveeprojects.model.SlackEvent;
+import org.mveeprojects.model.SlackEventEnvelope;
+import org.mveeprojects.service.SlackService;
+import org.springframework.stereotype.Component;
+
+/**
+ * Replies to @mentions with the bot's available endpoints
+ */
+@Component
+public class AppMentionHandler implements SlackEventHandler {
+
+    static final String HELP_MESSAGE = """
+            👋 Hello! I'm your workflow bot.
+            
+            **Available endpoints:**
+            • `POST /api/workflow/execute` - Run all configured services
+            • `GET /api/workflow/services` - List available services
+            • `POST /api/workflow/execute/services` - Run specific services""";
+
+    private final SlackService slackService;
+
+    public AppMentionHandler(SlackService slackService) {
+        this.slackService = slackService;
+    }
+
+    @Override
+    public String eventType() {
+        return "app_mention";
+    }
+
+    @Override
+    public void handle(SlackEventEnvelope envelope) {
+        SlackEvent event = envelope.event();
+        slackService.postThreadResponse(event.channel(), event.ts(), HELP_MESSAGE);
+    }
+}
@@ -0,0 +1,180 @@
+package org.mveeprojects.handler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.mveeprojects.telemetry.SampledLogger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A handler's own bounded executor, so a saturated handler cannot take threads
+ * or queue space from any other. With virtual threads each task gets a new
+ * thread and a semaphore holds the lane to the same concurrency and queue
+ * limits, so a handler blocked on Slack or an upstream holds no platform thread
+ * and no virtual thread is ever pooled.
+ */
+final class HandlerLane {
+
+    private static final Logger log = LoggerFactory.getLogger(HandlerLane.class);
+    private static final SampledLogger failures = new SampledLogger(log, 5, Duration.ofSeconds(10));
+
+    private final String name;
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final int capacity;
+    private final AtomicInteger admitted = new AtomicInteger();
+    private final Counter rejected;
+
+    HandlerLane(String name, HandlerLimits limits, boolean virtualThreads, MeterRegistry meterRegistry) {
+        this.name = name;
+        if (virtualThreads) {
+            this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("slack-" + name + "-", 1).factory());
+            this.permits = new Semaphore(limits.maxConcurrency(), true);
+            this.capacity = limits.maxConcurrency() + limits.queueCapacity();
+        } else {
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                limits.maxConcurrency(),
+                limits.maxConcurrency(),
+                60, TimeUnit.SECONDS,
+                queue(limits.queueCapacity()),
+                threadFactory(name),
+                new ThreadPoolExecutor.AbortPolicy()
+            );
+            pool.allowCoreThreadTimeOut(true);
+            this.executor = pool;
+            this.permits = null;
+            this.capacity = 0;
+        }
+
+        this.rejected = Counter.builder("slack.handler.rejected")
+            .description("Slack work rejected because the handler's queue was full")
+            .tag("handler", name)
+            .register(meterRegistry);
+        meterRegistry.gauge("slack.handler.queue.size",
+            Tags.of("handler", name),
+            this, HandlerLane::queued);
+    }
+
+    String name() {
+        return name;
+    }
+
+    private static ThreadFactory threadFactory(String name) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "slack-" + name + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Tasks waiting for a thread (platform) or for a permit (virtual)
+     */
+    private double queued() {
+        return permits != null ? permits.getQueueLength() : ((ThreadPoolExecutor) executor).getQueue().size();
+    }
+
+    /**
+     * @return false if the lane was full and the task was dropped
+     */
+    boolean execute(Runnable task) {
+        try {
+            submit(Executors.callable(() -> {
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    failures.warn(name, "Error in Slack handler {}", name, e);
+                }
+            }));
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    <T> Future<T> submit(Callable<T> task) {
+        RunnableFuture<T> future = null;
+        try {
+            future = admit(task);
+            executor.execute(future);
+            return future;
+        } catch (RejectedExecutionException e) {
+            if (future != null) {
+                // Shut down: give back the admission the task took
+                future.cancel(false);
+            }
+            rejected.increment();
+            throw e;
+        }
+    }
+
+    /**
+     * On platform threads the pool's own queue bounds the lane. On virtual threads the
+     * task is admitted only while fewer than max-concurrency plus queue-capacity tasks
+     * are running or waiting, and its thread waits for a permit before running it.
+     */
+    private <T> RunnableFuture<T> admit(Callable<T> task) {
+        if (permits == null) {
+            return new FutureTask<>(task);
+        }
+        if (admitted.incrementAndGet() > capacity) {
+            admitted.decrementAndGet();
+            throw new RejectedExecutionException("Slack handler " + name + " is full");
+        }
+        // The admission is handed back once, by whichever side claims it first: the task once it
+        // has its permit back, or done() for a task cancelled before it ran. A task interrupted by
+        // cancel(true) keeps its admission until it stops.
+        AtomicBoolean claimed = new AtomicBoolean();
+        return new FutureTask<>(() -> {
+            if (!claimed.compareAndSet(false, true)) {
+                return null;
+            }
+            try {
+                permits.acquire();
+                try {
+                    return task.call();
+                } finally {
+                    permits.release();
+                }
+            } finally {
+                admitted.decrementAndGet();
+            }
+        }) {
+            @Override
+            protected void done() {
+                if (claimed.compareAndSet(false, true)) {
+                    admitted.decrementAndGet();
+                }
+            }
+        };
+    }
+
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private static BlockingQueue<Runnable> queue(int capacity) {
+        return capacity == 0 ? new SynchronousQueue<>() : new ArrayBlockingQueue<>(capacity);
+    }
+}
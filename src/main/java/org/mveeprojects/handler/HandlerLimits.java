@@ -0,0 +1,18 @@
+package org.mveeprojects.handler;
+
+/**
+ * Concurrency limits for a handler's dedicated executor
+ *
+ * @param maxConcurrency number of threads handling work at once
+ * @param queueCapacity  work waiting beyond this is rejected
+ */
+public record HandlerLimits(int maxConcurrency, int queueCapacity) {
+
+    public static final HandlerLimits DEFAULT = new HandlerLimits(4, 100);
+
+    public HandlerLimits {
+        if (maxConcurrency <= 0 || queueCapacity < 0) {
+            throw new IllegalArgumentException("Invalid handler limits: " + maxConcurrency + "/" + queueCapacity);
+        }
+    }
+}
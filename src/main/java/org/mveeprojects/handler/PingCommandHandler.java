@@ -0,0 +1,25 @@
+package org.mveeprojects.handler;
+
+import org.mveeprojects.model.SlashCommand;
+import org.mveeprojects.model.SlashCommandResponse;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PingCommandHandler implements SlashCommandHandler {
+
+    @Override
+    public String command() {
+        return "/ping";
+    }
+
+    @Override
+    public SlashCommandResponse handle(SlashCommand command) {
+        return SlashCommandResponse.inChannel(
+            "🏓 Pong! The workflow bot is running and ready to process external APIs.");
+    }
+
+    @Override
+    public HandlerLimits limits() {
+        return new HandlerLimits(2, 50);
+    }
+}
@@ -0,0 +1,18 @@
+package org.mveeprojects.handler;
+
+import org.mveeprojects.model.SlackEventEnvelope;
+
+/**
+ * Handles one Slack event type (e.g. "app_mention"). Declare implementations as
+ * Spring beans and they are picked up by {@link SlackHandlerRegistry}.
+ */
+public interface SlackEventHandler {
+
+    String eventType();
+
+    void handle(SlackEventEnvelope envelope);
+
+    default HandlerLimits limits() {
+        return HandlerLimits.DEFAULT;
+    }
+}
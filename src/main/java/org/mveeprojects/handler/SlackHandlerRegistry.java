@@ -0,0 +1,132 @@
+package org.mveeprojects.handler;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.mveeprojects.config.SlackProperties;
+import org.mveeprojects.model.SlackEventEnvelope;
+import org.mveeprojects.model.SlashCommand;
+import org.mveeprojects.model.SlashCommandResponse;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Maps Slack event types and slash commands to their handler beans.
+ * Lookups are a single hash probe, and every handler runs on its own
+ * {@link HandlerLane} so a heavy command cannot delay a cheap one.
+ */
+@Component
+public class SlackHandlerRegistry {
+
+    private final Map<String, Registered<SlackEventHandler>> eventHandlers;
+    private final Map<String, Registered<SlashCommandHandler>> commandHandlers;
+    private final Duration commandResponseTimeout;
+    private final String availableCommands;
+
+    public SlackHandlerRegistry(List<SlackEventHandler> eventHandlers,
+                                List<SlashCommandHandler> commandHandlers,
+                                SlackProperties slackProperties,
+                                MeterRegistry meterRegistry) {
+        boolean virtualThreads = slackProperties.getHandlers().isVirtualThreads();
+        this.eventHandlers = index(eventHandlers, SlackEventHandler::eventType,
+            handler -> new HandlerLane("event-" + handler.eventType(), handler.limits(),
+                                       virtualThreads, meterRegistry));
+        this.commandHandlers = index(commandHandlers, SlashCommandHandler::command,
+            handler -> new HandlerLane("command-" + handler.command().replace("/", ""), handler.limits(),
+                                       virtualThreads, meterRegistry));
+        this.commandResponseTimeout = slackProperties.getCommands().getResponseTimeout();
+        this.availableCommands = this.commandHandlers.keySet().stream()
+            .sorted()
+            .map(command -> "`" + command + "`")
+            .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Queue an event callback on its handler's lane
+     *
+     * @return false if no handler is registered for the event type or its lane is full
+     */
+    public boolean dispatchEvent(SlackEventEnvelope envelope) {
+        Registered<SlackEventHandler> registered = eventHandlers.get(envelope.event().type());
+        if (registered == null) {
+            return false;
+        }
+        return registered.lane().execute(() -> registered.handler().handle(envelope));
+    }
+
+    /**
+     * Run a slash command on its handler's lane and wait for the immediate reply
+     */
+    public SlashCommandResponse dispatchCommand(SlashCommand command) {
+        Registered<SlashCommandHandler> registered =
+            command.command() != null ? commandHandlers.get(command.command()) : null;
+        if (registered == null) {
+            return SlashCommandResponse.ephemeral("Unknown command. Available commands: " + availableCommands);
+        }
+
+        Future<SlashCommandResponse> reply;
+        try {
+            reply = registered.lane().submit(() -> registered.handler().handle(command));
+        } catch (RejectedExecutionException e) {
+            return SlashCommandResponse.ephemeral(
+                "`" + command.command() + "` is busy right now, please try again shortly.");
+        }
+
+        try {
+            return reply.get(commandResponseTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            reply.cancel(true);
+            return SlashCommandResponse.ephemeral(
+                "`" + command.command() + "` is taking longer than expected, please try again shortly.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while handling " + command.command(), e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Error handling " + command.command(), e.getCause());
+        }
+    }
+
+    public boolean hasEventHandler(String eventType) {
+        return eventHandlers.containsKey(eventType);
+    }
+
+    public boolean hasCommandHandler(String command) {
+        return commandHandlers.containsKey(command);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        for (Registered<SlackEventHandler> registered : eventHandlers.values()) {
+            registered.lane().shutdown();
+        }
+        for (Registered<SlashCommandHandler> registered : commandHandlers.values()) {
+            registered.lane().shutdown();
+        }
+    }
+
+    private static <H> Map<String, Registered<H>> index(List<H> handlers,
+                                                        Function<H, String> key,
+                                                        Function<H, HandlerLane> lane) {
+        Map<String, Registered<H>> index = new HashMap<>();
+        for (H handler : handlers) {
+            String name = key.apply(handler);
+            if (index.containsKey(name)) {
+                throw new IllegalStateException("More than one Slack handler registered for " + name);
+            }
+            index.put(name, new Registered<>(handler, lane.apply(handler)));
+        }
+        return Map.copyOf(index);
+    }
+
+    private record Registered<H>(H handler, HandlerLane lane) {}
+}
@@ -0,0 +1,19 @@
+package org.mveeprojects.handler;
+
+import org.mveeprojects.model.SlashCommand;
+import org.mveeprojects.model.SlashCommandResponse;
+
+/**
+ * Handles one slash command (e.g. "/ping"). Declare implementations as Spring
+ * beans and they are picked up by {@link SlackHandlerRegistry}.
+ */
+public interface SlashCommandHandler {
+
+    String command();
+
+    SlashCommandResponse handle(SlashCommand command);
+
+    default HandlerLimits limits() {
+        return HandlerLimits.DEFAULT;
+    }
+}
@@ -0,0 +1,99 @@
+package org.mveeprojects.handler;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.mveeprojects.config.SlackProperties;
+import org.mveeprojects.model.SlashCommand;
+import org.mveeprojects.model.SlashCommandResponse;
+import org.mveeprojects.service.ResponseUrlClient;
+import org.mveeprojects.service.SlackWorkflowService;
+import org.mveeprojects.telemetry.SampledLogger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * /workflow run [services...] acknowledges straight away and runs the workflow
+ * in the background, posting the results to the command's response_url
+ */
+@Component
+public class WorkflowCommandHandler implements SlashCommandHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(WorkflowCommandHandler.class);
+    private static final SampledLogger runFailures = new SampledLogger(log, 5, Duration.ofSeconds(10));
+
+    static final String USAGE = """
+            Usage:
+            • `/workflow run` - Run all configured services and post the results here
+            • `/workflow run primary-api secondary-api` - Run specific services
+            You can also use the REST API endpoints to trigger workflows:
+            • `POST /api/workflow/execute` - Execute all services
+            • `GET /api/workflow/services` - List services""";
+
+    private final SlackWorkflowService slackWorkflowService;
+    private final ResponseUrlClient responseUrlClient;
+    private final HandlerLane workflowRuns;
+
+    public WorkflowCommandHandler(SlackWorkflowService slackWorkflowService,
+                                  ResponseUrlClient responseUrlClient,
+                                  SlackProperties slackProperties,
+                                  MeterRegistry meterRegistry) {
+        this.slackWorkflowService = slackWorkflowService;
+        this.responseUrlClient = responseUrlClient;
+        SlackProperties.Commands commands = slackProperties.getCommands();
+        this.workflowRuns = new HandlerLane("workflow-runs",
+            new HandlerLimits(commands.getWorkflowConcurrency(), commands.getWorkflowQueueCapacity()),
+            slackProperties.getHandlers().isVirtualThreads(),
+            meterRegistry);
+    }
+
+    @Override
+    public String command() {
+        return "/workflow";
+    }
+
+    @Override
+    public SlashCommandResponse handle(SlashCommand command) {
+        List<String> arguments = command.text() == null || command.text().isBlank()
+            ? List.of()
+            : Arrays.asList(command.text().trim().split("\\s+"));
+
+        if (arguments.isEmpty() || !"run".equals(arguments.get(0))) {
+            return SlashCommandResponse.ephemeral(USAGE);
+        }
+
+        if (!responseUrlClient.isAllowed(command.responseUrl())) {
+            return SlashCommandResponse.ephemeral("Sorry, this command did not include a valid response URL.");
+        }
+
+        String[] serviceNames = arguments.subList(1, arguments.size()).toArray(new String[0]);
+        boolean accepted = workflowRuns.execute(() -> run(command.responseUrl(), serviceNames));
+        if (!accepted) {
+            return SlashCommandResponse.ephemeral("Too many workflows are running right now, please try again shortly.");
+        }
+
+        String target = serviceNames.length == 0 ? "all configured services" : String.join(", ", serviceNames);
+        return SlashCommandResponse.ephemeral("⏳ Running workflow for " + target + ". Results will be posted here shortly.");
+    }
+
+    private void run(String responseUrl, String[] serviceNames) {
+        try {
+            List<String> results = slackWorkflowService.renderWorkflow(serviceNames);
+            responseUrlClient.send(responseUrl, SlashCommandResponse.inChannel(String.join("\n\n", results)));
+        } catch (Exception e) {
+            // The cause stays in the log: it can name internal hosts and upstream details
+            runFailures.warn("workflow", "Workflow run for {} failed", Arrays.toString(serviceNames), e);
+            responseUrlClient.send(responseUrl,
+                SlashCommandResponse.ephemeral("Sorry, the workflow failed. Please try again later."));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        workflowRuns.shutdown();
+    }
+}
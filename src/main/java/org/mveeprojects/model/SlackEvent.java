@@ -0,0 +1,17 @@
+package org.mveeprojects.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Inner "event" object of a Slack event callback
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record SlackEvent(
+    String type,
+    String channel,
+    String user,
+    String text,
+    String ts,
+    @JsonProperty("thread_ts") String threadTs
+) {}
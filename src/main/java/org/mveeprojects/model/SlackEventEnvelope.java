@@ -0,0 +1,17 @@
+package org.mveeprojects.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Outer payload of a Slack Events API request. Only the fields the bot uses are
+ * bound; everything else (authorizations, blocks, ...) is skipped by the parser.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record SlackEventEnvelope(
+    String type,
+    String challenge,
+    @JsonProperty("event_id") String eventId,
+    @JsonProperty("team_id") String teamId,
+    SlackEvent event
+) {}
@@ -0,0 +1,15 @@
+package org.mveeprojects.model;
+
+import org.springframework.web.bind.annotation.BindParam;
+
+/**
+ * Form fields Slack sends with a slash command invocation
+ */
+public record SlashCommand(
+    String command,
+    String text,
+    @BindParam("user_id") String userId,
+    @BindParam("channel_id") String channelId,
+    @BindParam("response_url") String responseUrl,
+    @BindParam("trigger_id") String triggerId
+) {}
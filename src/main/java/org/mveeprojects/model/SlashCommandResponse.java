@@ -0,0 +1,20 @@
+package org.mveeprojects.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Immediate reply to a slash command
+ */
+public record SlashCommandResponse(
+    @JsonProperty("response_type") String responseType,
+    String text
+) {
+
+    public static SlashCommandResponse inChannel(String text) {
+        return new SlashCommandResponse("in_channel", text);
+    }
+
+    public static SlashCommandResponse ephemeral(String text) {
+        return new SlashCommandResponse("ephemeral", text);
+    }
+}
@@ -0,0 +1,142 @@
+package org.mveeprojects.security;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import org.springframework.http.MediaType;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URLDecoder;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Request wrapper that replays a body which has already been read, so that the
+ * raw bytes can be verified before the body is handed to Spring for binding.
+ * Form bodies are parsed here because the container can no longer read them.
+ */
+class CachedBodyHttpServletRequest extends HttpServletRequestWrapper {
+
+    private final byte[] body;
+    private Map<String, String[]> parameters;
+
+    CachedBodyHttpServletRequest(HttpServletRequest request, byte[] body) {
+        super(request);
+        this.body = body;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+        ByteArrayInputStream input = new ByteArrayInputStream(body);
+        return new ServletInputStream() {
+            @Override
+            public boolean isFinished() {
+                return input.available() == 0;
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            /**
+             * The whole body is already in memory, so the listener is told at once that data is
+             * available and, once it has read it, that the body is complete
+             */
+            @Override
+            public void setReadListener(ReadListener readListener) {
+                try {
+                    if (!isFinished()) {
+                        readListener.onDataAvailable();
+                    }
+                    readListener.onAllDataRead();
+                } catch (IOException e) {
+                    readListener.onError(e);
+                }
+            }
+
+            @Override
+            public int read() {
+                return input.read();
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int length) {
+                return input.read(buffer, offset, length);
+            }
+        };
+    }
+
+    @Override
+    public BufferedReader getReader() {
+        return new BufferedReader(new InputStreamReader(getInputStream(), charset()));
+    }
+
+    @Override
+    public String getParameter(String name) {
+        String[] values = getParameterMap().get(name);
+        return values != null && values.length > 0 ? values[0] : null;
+    }
+
+    @Override
+    public Map<String, String[]> getParameterMap() {
+        if (parameters == null) {
+            Map<String, String[]> parsed = new LinkedHashMap<>();
+            parseInto(getQueryString(), parsed);
+            if (isFormPost()) {
+                parseInto(new String(body, charset()), parsed);
+            }
+            parameters = Collections.unmodifiableMap(parsed);
+        }
+        return parameters;
+    }
+
+    @Override
+    public Enumeration<String> getParameterNames() {
+        return Collections.enumeration(getParameterMap().keySet());
+    }
+
+    @Override
+    public String[] getParameterValues(String name) {
+        return getParameterMap().get(name);
+    }
+
+    private boolean isFormPost() {
+        String contentType = getContentType();
+        return contentType != null
+            && MediaType.APPLICATION_FORM_URLENCODED.includes(MediaType.parseMediaType(contentType));
+    }
+
+    private Charset charset() {
+        String encoding = getCharacterEncoding();
+        return encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+    }
+
+    private void parseInto(String encoded, Map<String, String[]> target) {
+        if (encoded == null || encoded.isEmpty()) {
+            return;
+        }
+        for (String pair : encoded.split("&")) {
+            if (pair.isEmpty()) {
+                continue;
+            }
+            int equals = pair.indexOf('=');
+            String name = URLDecoder.decode(equals >= 0 ? pair.substring(0, equals) : pair, charset());
+            String value = equals >= 0 ? URLDecoder.decode(pair.substring(equals + 1), charset()) : "";
+            target.merge(name, new String[] {value}, (existing, added) -> {
+                String[] merged = new String[existing.length + 1];
+                System.arraycopy(existing, 0, merged, 0, existing.length);
+                merged[existing.length] = added[0];
+                return merged;
+            });
+        }
+    }
+}
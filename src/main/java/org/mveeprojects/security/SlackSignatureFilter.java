@@ -0,0 +1,88 @@
+package org.mveeprojects.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rejects Slack requests whose signature does not match before the body is parsed
+ */
+public class SlackSignatureFilter extends OncePerRequestFilter {
+
+    static final String TIMESTAMP_HEADER = "X-Slack-Request-Timestamp";
+    static final String SIGNATURE_HEADER = "X-Slack-Signature";
+
+    private final SlackSignatureVerifier verifier;
+    private final int maxBodyBytes;
+    private final Timer verificationTimer;
+    private final Map<SlackSignatureVerifier.Result, Counter> rejections =
+        new EnumMap<>(SlackSignatureVerifier.Result.class);
+
+    public SlackSignatureFilter(SlackSignatureVerifier verifier, int maxBodyBytes, MeterRegistry meterRegistry) {
+        this.verifier = verifier;
+        this.maxBodyBytes = maxBodyBytes;
+        this.verificationTimer = Timer.builder("slack.signature.verification")
+            .description("Time spent verifying Slack request signatures")
+            .register(meterRegistry);
+        for (SlackSignatureVerifier.Result result : SlackSignatureVerifier.Result.values()) {
+            if (!result.isValid()) {
+                rejections.put(result, Counter.builder("slack.signature.rejected")
+                    .description("Slack requests rejected by signature verification")
+                    .tag("reason", result.name().toLowerCase())
+                    .register(meterRegistry));
+            }
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        long contentLength = request.getContentLengthLong();
+        if (contentLength > maxBodyBytes) {
+            response.sendError(HttpStatus.PAYLOAD_TOO_LARGE.value());
+            return;
+        }
+
+        byte[] body = readBody(request.getInputStream());
+        if (body == null) {
+            response.sendError(HttpStatus.PAYLOAD_TOO_LARGE.value());
+            return;
+        }
+
+        long start = System.nanoTime();
+        SlackSignatureVerifier.Result result = verifier.verify(
+            request.getHeader(TIMESTAMP_HEADER),
+            request.getHeader(SIGNATURE_HEADER),
+            body
+        );
+        verificationTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        if (!result.isValid()) {
+            rejections.get(result).increment();
+            response.sendError(HttpStatus.UNAUTHORIZED.value(), "Invalid Slack signature");
+            return;
+        }
+
+        filterChain.doFilter(new CachedBodyHttpServletRequest(request, body), response);
+    }
+
+    /**
+     * Read at most maxBodyBytes, returning null if the body is larger
+     */
+    private byte[] readBody(InputStream input) throws IOException {
+        byte[] body = input.readNBytes(maxBodyBytes + 1);
+        return body.length > maxBodyBytes ? null : body;
+    }
+}
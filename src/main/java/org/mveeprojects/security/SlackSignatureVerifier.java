@@ -0,0 +1,108 @@
+package org.mveeprojects.security;
+
+import org.mveeprojects.service.InMemorySlackEventDeduplicator;
+import org.mveeprojects.service.SlackEventDeduplicator;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.function.LongSupplier;
+
+/**
+ * Verifies Slack request signatures (v0 HMAC-SHA256 over "v0:timestamp:body").
+ * Mac instances are cached per thread so each request only pays for the digest itself.
+ */
+public class SlackSignatureVerifier {
+
+    private static final String VERSION = "v0";
+    private static final byte[] VERSION_PREFIX = (VERSION + ":").getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] SEPARATOR = ":".getBytes(StandardCharsets.US_ASCII);
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final ThreadLocal<Mac> macs;
+    private final long toleranceSeconds;
+    private final SlackEventDeduplicator replayCache;
+    private final LongSupplier epochSecondsClock;
+
+    public SlackSignatureVerifier(String signingSecret, Duration tolerance) {
+        this(signingSecret, tolerance,
+             new InMemorySlackEventDeduplicator(tolerance.multipliedBy(2), 10_000),
+             () -> System.currentTimeMillis() / 1000);
+    }
+
+    SlackSignatureVerifier(String signingSecret, Duration tolerance,
+                           SlackEventDeduplicator replayCache, LongSupplier epochSecondsClock) {
+        SecretKeySpec key = new SecretKeySpec(signingSecret.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+        this.macs = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance("HmacSHA256");
+                mac.init(key);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HmacSHA256 is not available", e);
+            }
+        });
+        this.toleranceSeconds = tolerance.toSeconds();
+        this.replayCache = replayCache;
+        this.epochSecondsClock = epochSecondsClock;
+    }
+
+    /**
+     * Check the X-Slack-Request-Timestamp and X-Slack-Signature headers against the raw body
+     */
+    public Result verify(String timestamp, String signature, byte[] body) {
+        if (timestamp == null || signature == null) {
+            return Result.MISSING_HEADERS;
+        }
+
+        long requestTime;
+        try {
+            requestTime = Long.parseLong(timestamp);
+        } catch (NumberFormatException e) {
+            return Result.STALE_TIMESTAMP;
+        }
+        if (Math.abs(epochSecondsClock.getAsLong() - requestTime) > toleranceSeconds) {
+            return Result.STALE_TIMESTAMP;
+        }
+
+        byte[] expected = sign(timestamp, body);
+        byte[] actual = signature.getBytes(StandardCharsets.US_ASCII);
+        if (!MessageDigest.isEqual(expected, actual)) {
+            return Result.INVALID_SIGNATURE;
+        }
+
+        // A valid signature may only be used once inside the timestamp window
+        if (replayCache.isDuplicate(signature)) {
+            return Result.REPLAYED;
+        }
+        return Result.VALID;
+    }
+
+    /**
+     * Compute the "v0=..." signature Slack would send for this timestamp and body
+     */
+    public byte[] sign(String timestamp, byte[] body) {
+        Mac mac = macs.get();
+        mac.update(VERSION_PREFIX);
+        mac.update(timestamp.getBytes(StandardCharsets.US_ASCII));
+        mac.update(SEPARATOR);
+        byte[] digest = mac.doFinal(body);
+        return (VERSION + "=" + HEX.formatHex(digest)).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    public enum Result {
+        VALID,
+        MISSING_HEADERS,
+        STALE_TIMESTAMP,
+        INVALID_SIGNATURE,
+        REPLAYED;
+
+        public boolean isValid() {
+            return this == VALID;
+        }
+    }
+}
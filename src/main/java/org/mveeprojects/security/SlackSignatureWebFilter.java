@@ -0,0 +1,153 @@
+package org.mveeprojects.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.core.Ordered;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.FormHttpMessageReader;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebExchangeDecorator;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reactive counterpart of {@link SlackSignatureFilter}: rejects /slack/* requests whose signature
+ * does not match, then replays the buffered body to the controller
+ */
+public class SlackSignatureWebFilter implements WebFilter, Ordered {
+
+    private static final String SLACK_PATH_PREFIX = "/slack/";
+    private static final ResolvableType FORM_DATA_TYPE =
+        ResolvableType.forClassWithGenerics(MultiValueMap.class, String.class, String.class);
+    private static final FormHttpMessageReader formReader = new FormHttpMessageReader();
+
+    private final SlackSignatureVerifier verifier;
+    private final int maxBodyBytes;
+    private final Timer verificationTimer;
+    private final Map<SlackSignatureVerifier.Result, Counter> rejections =
+        new EnumMap<>(SlackSignatureVerifier.Result.class);
+
+    public SlackSignatureWebFilter(SlackSignatureVerifier verifier, int maxBodyBytes, MeterRegistry meterRegistry) {
+        this.verifier = verifier;
+        this.maxBodyBytes = maxBodyBytes;
+        this.verificationTimer = Timer.builder("slack.signature.verification")
+            .description("Time spent verifying Slack request signatures")
+            .register(meterRegistry);
+        for (SlackSignatureVerifier.Result result : SlackSignatureVerifier.Result.values()) {
+            if (!result.isValid()) {
+                rejections.put(result, Counter.builder("slack.signature.rejected")
+                    .description("Slack requests rejected by signature verification")
+                    .tag("reason", result.name().toLowerCase())
+                    .register(meterRegistry));
+            }
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 10;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (!request.getPath().pathWithinApplication().value().startsWith(SLACK_PATH_PREFIX)) {
+            return chain.filter(exchange);
+        }
+        if (request.getHeaders().getContentLength() > maxBodyBytes) {
+            return reject(exchange, HttpStatus.PAYLOAD_TOO_LARGE);
+        }
+
+        return readBody(request).flatMap(body -> {
+            if (body.isEmpty()) {
+                return reject(exchange, HttpStatus.PAYLOAD_TOO_LARGE);
+            }
+
+            long start = System.nanoTime();
+            SlackSignatureVerifier.Result result = verifier.verify(
+                request.getHeaders().getFirst(SlackSignatureFilter.TIMESTAMP_HEADER),
+                request.getHeaders().getFirst(SlackSignatureFilter.SIGNATURE_HEADER),
+                body.get()
+            );
+            verificationTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+            if (!result.isValid()) {
+                rejections.get(result).increment();
+                return reject(exchange, HttpStatus.UNAUTHORIZED);
+            }
+
+            return chain.filter(new CachedBodyExchange(exchange, body.get()));
+        });
+    }
+
+    /**
+     * Read at most maxBodyBytes, returning an empty Optional if the body is larger
+     */
+    private Mono<Optional<byte[]>> readBody(ServerHttpRequest request) {
+        return DataBufferUtils.join(request.getBody(), maxBodyBytes)
+            .map(buffer -> {
+                byte[] bytes = new byte[buffer.readableByteCount()];
+                buffer.read(bytes);
+                DataBufferUtils.release(buffer);
+                return Optional.of(bytes);
+            })
+            .defaultIfEmpty(Optional.of(new byte[0]))
+            .onErrorReturn(DataBufferLimitException.class, Optional.empty());
+    }
+
+    private static Mono<Void> reject(ServerWebExchange exchange, HttpStatus status) {
+        exchange.getResponse().setStatusCode(status);
+        return exchange.getResponse().setComplete();
+    }
+
+    /**
+     * Serves the already-read body to the handler. Form data is parsed from the same bytes,
+     * because the original exchange would try to read the consumed request body again.
+     */
+    private static final class CachedBodyExchange extends ServerWebExchangeDecorator {
+
+        private final ServerHttpRequest request;
+        private final Mono<MultiValueMap<String, String>> formData;
+
+        CachedBodyExchange(ServerWebExchange exchange, byte[] body) {
+            super(exchange);
+            this.request = new ServerHttpRequestDecorator(exchange.getRequest()) {
+                @Override
+                public Flux<DataBuffer> getBody() {
+                    return Flux.defer(() -> Flux.just(exchange.getResponse().bufferFactory().wrap(body)));
+                }
+            };
+            MediaType contentType = request.getHeaders().getContentType();
+            this.formData = contentType != null && MediaType.APPLICATION_FORM_URLENCODED.isCompatibleWith(contentType)
+                ? formReader.readMono(FORM_DATA_TYPE, request, Map.of()).cache()
+                : Mono.just(new LinkedMultiValueMap<>());
+        }
+
+        @Override
+        public ServerHttpRequest getRequest() {
+            return request;
+        }
+
+        @Override
+        public Mono<MultiValueMap<String, String>> getFormData() {
+            return formData;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package org.mveeprojects.service;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Additive-increase/multiplicative-decrease concurrency limit, after Netflix concurrency-limits'
+ * AIMDLimit. A fetch that fails, times out or takes longer than the latency threshold cuts the
+ * limit by the backoff ratio; a healthy fetch while the limit is at least half used raises it by
+ * one. The limit stays between the minimum and the ceiling. Samples are applied with a CAS loop,
+ * so completions for a service never queue behind each other to adjust it.
+ */
+final class AimdLimit {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+
+    private final AtomicInteger limit;
+
+    AimdLimit(int initialLimit, int minLimit, int maxLimit, double backoffRatio, Duration latencyThreshold) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.limit = new AtomicInteger(Math.max(minLimit, Math.min(maxLimit, initialLimit)));
+    }
+
+    int get() {
+        return limit.get();
+    }
+
+    /**
+     * Adjust the limit for one completed fetch
+     *
+     * @param rttNanos time the fetch held its permit
+     * @param inFlight fetches holding a permit when this one completed, itself included
+     * @param dropped  whether the fetch failed, timed out or was cancelled
+     * @return the new limit
+     */
+    int onSample(long rttNanos, int inFlight, boolean dropped) {
+        boolean decrease = dropped || rttNanos > latencyThresholdNanos;
+        while (true) {
+            int current = limit.get();
+            int next = current;
+            if (decrease) {
+                next = Math.max(minLimit, Math.min(current - 1, (int) (current * backoffRatio)));
+            } else if (inFlight * 2 >= current) {
+                // Only grow when the limit is actually being used, or an idle service would drift to the ceiling
+                next = Math.min(maxLimit, current + 1);
+            }
+            if (next == current || limit.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+}
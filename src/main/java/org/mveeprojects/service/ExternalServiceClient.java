@@ -1,81 +1,297 @@
 package org.mveeprojects.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.common.KeyValues;
+import jakarta.annotation.PreDestroy;
 import org.mveeprojects.config.ExternalServiceConfig;
+import org.mveeprojects.telemetry.PipelineTelemetry;
+import org.mveeprojects.telemetry.SampledLogger;
+import org.mveeprojects.telemetry.UpstreamFetchEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Exceptions;
 import reactor.core.publisher.Mono;
-import reactor.util.retry.Retry;
 
 import java.time.Duration;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 public class ExternalServiceClient {
 
-    private final ExternalServiceConfig externalServiceConfig;
+    private static final Logger log = LoggerFactory.getLogger(ExternalServiceClient.class);
+    private static final SampledLogger fetchFailures = new SampledLogger(log, 5, Duration.ofSeconds(10));
+    private static final String NOT_MODIFIED = "not_modified";
+    // The limit WebClient's JSON decoder applied to uncompressed bodies (spring.codec.max-in-memory-size)
+    private static final long MAX_UNCOMPRESSED_BYTES = 256 * 1024;
+
+    private final AtomicReference<Services> services;
+    private final WebClient.Builder webClientBuilder;
     private final WebClient webClient;
+    private final ObjectMapper objectMapper;
+    private final PipelineTelemetry telemetry;
 
     public ExternalServiceClient(ExternalServiceConfig externalServiceConfig) {
-        this.externalServiceConfig = externalServiceConfig;
-        this.webClient = WebClient.builder().build();
+        this(externalServiceConfig, PipelineTelemetry.noop());
+    }
+
+    public ExternalServiceClient(ExternalServiceConfig externalServiceConfig, PipelineTelemetry telemetry) {
+        this(externalServiceConfig, telemetry, WebClient.builder());
+    }
+
+    public ExternalServiceClient(ExternalServiceConfig externalServiceConfig, PipelineTelemetry telemetry,
+                                 WebClient.Builder webClientBuilder) {
+        this(externalServiceConfig, telemetry, webClientBuilder, new ObjectMapper());
+    }
+
+    /**
+     * Uses Spring's WebClient.Builder so each upstream exchange is observed and
+     * carries the current trace context as request headers. Every configured service
+     * gets a client of its own on a dedicated connection pool (see {@link ServiceBulkhead}).
+     * The shared ObjectMapper parses response bodies as their chunks arrive.
+     */
+    @Autowired
+    public ExternalServiceClient(ExternalServiceConfig externalServiceConfig, PipelineTelemetry telemetry,
+                                 WebClient.Builder webClientBuilder, ObjectMapper objectMapper) {
+        this.webClientBuilder = webClientBuilder;
+        this.webClient = webClientBuilder.build();
+        this.objectMapper = objectMapper;
+        this.telemetry = telemetry;
+        this.services = new AtomicReference<>(
+                withState(ServiceRegistry.from(externalServiceConfig.getServices(), telemetry), Map.of()));
     }
 
     /**
      * Fetch data from all configured external services
      */
     public Map<String, Mono<JsonNode>> fetchAllServices() {
-        return externalServiceConfig.getServices().stream()
-                .collect(Collectors.toMap(
-                    ExternalServiceConfig.ServiceDefinition::getName,
-                    this::fetchFromService
-                ));
+        return fetchAllServices(getServiceRegistry());
+    }
+
+    /**
+     * Fetch data from every service in a registry snapshot
+     */
+    public Map<String, Mono<JsonNode>> fetchAllServices(ServiceRegistry registry) {
+        return registry.entries().stream()
+                .collect(Collectors.toMap(ServiceRegistry.Entry::name, this::fetchFromService));
     }
 
     /**
      * Fetch data from a specific service by name
      */
     public Mono<JsonNode> fetchFromService(String serviceName) {
-        return externalServiceConfig.getServices().stream()
-                .filter(service -> service.getName().equals(serviceName))
-                .findFirst()
-                .map(this::fetchFromService)
-                .orElse(Mono.just(createErrorResponse("Service not found: " + serviceName)));
+        return fetchFromService(getServiceRegistry(), serviceName);
+    }
+
+    /**
+     * Fetch data from a service by name, as defined in a registry snapshot
+     */
+    public Mono<JsonNode> fetchFromService(ServiceRegistry registry, String serviceName) {
+        ServiceRegistry.Entry service = registry.get(serviceName);
+        return service != null
+                ? fetchFromService(service)
+                : Mono.just(createErrorResponse("Service not found: " + serviceName));
     }
 
     /**
      * Fetch data from a specific service configuration
      */
     public Mono<JsonNode> fetchFromService(ExternalServiceConfig.ServiceDefinition service) {
-        WebClient.RequestHeadersSpec<?> request = webClient
+        ServiceRegistry.Entry registered = getServiceRegistry().get(service.getName());
+        return fetchFromService(registered != null && registered.definition() == service
+                ? registered
+                : ServiceRegistry.Entry.of(service, telemetry));
+    }
+
+    /**
+     * Fetch data from a registry entry. When the service's last response carried an ETag or
+     * Last-Modified, the request is conditional and a 304 returns that response's body unparsed.
+     */
+    public Mono<JsonNode> fetchFromService(ServiceRegistry.Entry service) {
+        // Looked up per attempt, so a retry after a reload uses the service's current pool
+        Mono<Fetched> attempt = Mono.defer(() -> {
+            ServiceState state = services.get().states().get(service);
+            ValidatedResponse cached = state != null ? state.validated() : null;
+            Mono<Fetched> exchange = state != null
+                    ? state.bulkhead().limit(exchange(state.bulkhead().webClient(), service, cached))
+                    // An entry replaced by a reload while this workflow ran, or built outside the registry
+                    : exchange(webClient, service, cached);
+            return exchange.map(fetched -> revalidated(state, cached, fetched));
+        });
+
+        return Mono.defer(() -> {
+            UpstreamFetchEvent event = UpstreamFetchEvent.start(service.name());
+            long start = System.nanoTime();
+            Mono<Fetched> exchange = attempt
+                    .timeout(service.timeout())
+                    .retryWhen(service.retry());
+            return telemetry.observe("pipeline.fetch", KeyValues.of("service", service.name()), exchange)
+                    .doOnSuccess(fetched -> {
+                        String outcome = fetched != null && fetched.entity().getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)
+                                ? NOT_MODIFIED
+                                : PipelineTelemetry.SUCCESS;
+                        telemetry.recordFetch(service.name(), outcome, System.nanoTime() - start);
+                        UpstreamFetchEvent.finish(event, outcome, fetched != null ? fetched.payloadBytes() : 0);
+                    })
+                    .mapNotNull(fetched -> fetched.entity().getBody())
+                    .onErrorResume(throwable -> {
+                        String outcome = outcomeOf(throwable);
+                        telemetry.recordFetch(service.name(), outcome, System.nanoTime() - start);
+                        UpstreamFetchEvent.finish(event, outcome, 0);
+                        fetchFailures.warn(service.name() + '/' + outcome,
+                                "Error fetching from {} ({}): {}", service.name(), outcome, throwable.getMessage());
+                        return Mono.just(createErrorResponse("Failed to fetch from " + service.displayName() + ": " + throwable.getMessage()));
+                    });
+        });
+    }
+
+    /**
+     * One request to the service. The body is decoded and parsed by {@link StreamingJsonReader},
+     * which inflates compressed responses itself under the service's max-decompressed-size and
+     * counts the decoded bytes.
+     */
+    private Mono<Fetched> exchange(WebClient client, ServiceRegistry.Entry service, ValidatedResponse cached) {
+        boolean compressed = service.compressed();
+        long maxBytes = compressed
+                ? service.definition().getCompression().getMaxDecompressedSize().toBytes()
+                : MAX_UNCOMPRESSED_BYTES;
+        return client
                 .get()
-                .uri(service.getUrl());
+                .uri(service.uri())
+                .headers(headers -> {
+                    headers.addAll(service.headers());
+                    if (!compressed) {
+                        headers.remove(HttpHeaders.ACCEPT_ENCODING);
+                    }
+                    if (cached != null) {
+                        cached.addConditions(headers);
+                    }
+                })
+                .retrieve()
+                .toEntityFlux(DataBuffer.class)
+                .flatMap(entity -> StreamingJsonReader.read(entity.getBody(),
+                                entity.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING), objectMapper, maxBytes)
+                        .map(body -> new Fetched(
+                                new ResponseEntity<>(body.json(), entity.getHeaders(), entity.getStatusCode()),
+                                body.bytes())));
+    }
 
-        // Add headers if configured
-        if (service.getHeaders() != null) {
-            for (Map.Entry<String, String> header : service.getHeaders().entrySet()) {
-                request = request.header(header.getKey(), header.getValue());
+    /**
+     * Swap the cached body into a 304, and keep a fresh response for revalidation if it has validators
+     */
+    private Fetched revalidated(ServiceState state, ValidatedResponse cached, Fetched fetched) {
+        ResponseEntity<JsonNode> entity = fetched.entity();
+        if (entity.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+            if (cached == null) {
+                throw new IllegalStateException("304 Not Modified for an unconditional request");
             }
+            return new Fetched(new ResponseEntity<>(cached.body(), entity.getHeaders(), entity.getStatusCode()),
+                    fetched.payloadBytes());
         }
+        // Only registered services are cached, so entries built ad hoc or retired by a reload leave nothing behind
+        if (state != null) {
+            state.keep(ValidatedResponse.of(entity.getBody(), entity.getHeaders()));
+        }
+        return fetched;
+    }
 
-        return request
-                .retrieve()
-                .bodyToMono(JsonNode.class)
-                .timeout(Duration.ofMillis(service.getTimeout()))
-                .retryWhen(Retry.fixedDelay(service.getRetryAttempts(), Duration.ofSeconds(1)))
-                .onErrorResume(throwable -> {
-                    System.err.println("Error fetching from " + service.getName() + ": " + throwable.getMessage());
-                    return Mono.just(createErrorResponse("Failed to fetch from " + service.getDisplayName() + ": " + throwable.getMessage()));
-                });
+    /**
+     * Render a fetched response, reusing the markdown of a response that was revalidated with a 304
+     * rather than rendering the same body again
+     */
+    public String renderedMarkdown(ServiceRegistry.Entry service, JsonNode response, Function<JsonNode, String> renderer) {
+        ServiceState state = service != null ? services.get().states().get(service) : null;
+        ValidatedResponse cached = state != null ? state.validated() : null;
+        return cached != null && cached.body() == response
+                ? cached.markdown(renderer)
+                : renderer.apply(response);
     }
 
     /**
      * Get all configured services
      */
     public List<ExternalServiceConfig.ServiceDefinition> getConfiguredServices() {
-        return externalServiceConfig.getServices();
+        return getServiceRegistry().definitions();
+    }
+
+    /**
+     * The current registry snapshot. A workflow should take it once and fetch through it, so that a
+     * reload in the meantime does not change the services it sees halfway through.
+     */
+    public ServiceRegistry getServiceRegistry() {
+        return services.get().registry();
+    }
+
+    /**
+     * Swap in a registry for new service definitions. Unchanged services keep their entries;
+     * in-flight fetches finish against the snapshot they started with.
+     *
+     * @throws IllegalArgumentException if the definitions are invalid, leaving the current registry in place
+     */
+    public synchronized ServiceRegistry reloadServices(List<ExternalServiceConfig.ServiceDefinition> definitions) {
+        Services current = services.get();
+        ServiceRegistry reloaded = current.registry().withDefinitions(definitions);
+        services.set(withState(reloaded, current.states()));
+        return reloaded;
+    }
+
+    /**
+     * Pair a registry with the state of its entries: entries carried over by a reload keep theirs,
+     * replaced or removed entries have theirs retired, and new entries get a fresh bulkhead. Retired
+     * state goes first so its gauges are gone before a replacement for the same service registers its own.
+     * The map is keyed by entry identity, so a lookup neither hashes the definition nor depends on it.
+     */
+    private Services withState(ServiceRegistry registry, Map<ServiceRegistry.Entry, ServiceState> previous) {
+        Map<ServiceRegistry.Entry, ServiceState> states = new IdentityHashMap<>(registry.size());
+        registry.entries().forEach(entry -> {
+            ServiceState kept = previous.get(entry);
+            if (kept != null) {
+                states.put(entry, kept);
+            }
+        });
+        previous.forEach((entry, state) -> {
+            if (states.get(entry) != state) {
+                state.retire();
+            }
+        });
+        registry.entries().forEach(entry -> states.computeIfAbsent(entry, service ->
+                new ServiceState(new ServiceBulkhead(service, webClientBuilder, telemetry.getMeterRegistry()))));
+        return new Services(registry, Collections.unmodifiableMap(states));
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        Services current = services.get();
+        services.set(new Services(current.registry(), Map.of()));
+        current.states().values().forEach(ServiceState::retire);
+    }
+
+    /**
+     * A response and the number of body bytes decoded for it
+     */
+    private record Fetched(ResponseEntity<JsonNode> entity, long payloadBytes) {
+    }
+
+    /**
+     * A registry snapshot and the state of its entries, swapped together on reload
+     */
+    private record Services(ServiceRegistry registry, Map<ServiceRegistry.Entry, ServiceState> states) {
     }
 
     // Legacy methods for backward compatibility
@@ -94,6 +310,28 @@ public class ExternalServiceClient {
         return fetchFromService("secondary-api");
     }
 
+    /**
+     * Classify a failed fetch for metrics; retries exhausted are unwrapped to their cause
+     */
+    private static String outcomeOf(Throwable throwable) {
+        Throwable cause = Exceptions.isRetryExhausted(throwable) && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+        if (cause instanceof TimeoutException) {
+            return "timeout";
+        }
+        if (cause instanceof ServiceBulkhead.RejectedException) {
+            return "rejected";
+        }
+        if (cause instanceof DataBufferLimitException) {
+            return "too_large";
+        }
+        if (cause instanceof WebClientResponseException responseException) {
+            return "http_" + responseException.getStatusCode().value();
+        }
+        return PipelineTelemetry.ERROR;
+    }
+
     private JsonNode createErrorResponse(String errorMessage) {
         return com.fasterxml.jackson.databind.node.JsonNodeFactory.instance
                 .objectNode()
@@ -0,0 +1,83 @@
+package org.mveeprojects.service;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free, bounded deduplication window held in memory.
+ * Ids are kept in a concurrent map for O(1) lookups and in an insertion-ordered
+ * queue so that expired or excess entries can be evicted oldest-first.
+ */
+public class InMemorySlackEventDeduplicator implements SlackEventDeduplicator {
+
+    private final ConcurrentHashMap<String, Long> seen = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Entry> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final LongSupplier nanoClock;
+
+    public InMemorySlackEventDeduplicator(Duration ttl, int maxEntries) {
+        this(ttl, maxEntries, System::nanoTime);
+    }
+
+    InMemorySlackEventDeduplicator(Duration ttl, int maxEntries, LongSupplier nanoClock) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive");
+        }
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public boolean isDuplicate(String eventId) {
+        long now = nanoClock.getAsLong();
+        Long previous = seen.putIfAbsent(eventId, now);
+
+        if (previous != null) {
+            if (now - previous < ttlNanos) {
+                return true;
+            }
+            // The earlier sighting has expired; only one caller wins the refresh
+            if (!seen.replace(eventId, previous, now)) {
+                return true;
+            }
+        }
+
+        insertionOrder.offer(new Entry(eventId, now));
+        size.incrementAndGet();
+        evict(now);
+        return false;
+    }
+
+    @Override
+    public void forget(String eventId) {
+        // Its queue entry stays until evicted, and then only removes the id if it was not seen again
+        seen.remove(eventId);
+    }
+
+    /**
+     * Number of ids currently tracked
+     */
+    public int size() {
+        return seen.size();
+    }
+
+    private void evict(long now) {
+        Entry head;
+        while ((head = insertionOrder.peek()) != null
+                && (size.get() > maxEntries || now - head.seenAt() >= ttlNanos)) {
+            if (insertionOrder.remove(head)) {
+                size.decrementAndGet();
+                // Skip removal if the id was refreshed after this entry was queued
+                seen.remove(head.eventId(), head.seenAt());
+            }
+        }
+    }
+
+    private record Entry(String eventId, long seenAt) {}
+}
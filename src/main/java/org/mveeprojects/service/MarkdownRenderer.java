@@ -1,6 +1,10 @@
 package org.mveeprojects.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.common.KeyValues;
+import org.mveeprojects.telemetry.PipelineTelemetry;
+import org.mveeprojects.telemetry.RenderEvent;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.util.Iterator;
@@ -9,7 +13,31 @@ import java.util.Map;
 @Service
 public class MarkdownRenderer {
 
+    private final PipelineTelemetry telemetry;
+
+    public MarkdownRenderer() {
+        this(PipelineTelemetry.noop());
+    }
+
+    @Autowired
+    public MarkdownRenderer(PipelineTelemetry telemetry) {
+        this.telemetry = telemetry;
+    }
+
     public String renderJsonToMarkdown(JsonNode jsonNode) {
+        return renderJsonToMarkdown(null, jsonNode);
+    }
+
+    /**
+     * @param service the service the response came from, recorded on the Render JFR event
+     */
+    public String renderJsonToMarkdown(String service, JsonNode jsonNode) {
+        return telemetry.observe("pipeline.render", KeyValues.empty(), () -> render(service, jsonNode));
+    }
+
+    private String render(String service, JsonNode jsonNode) {
+        RenderEvent event = RenderEvent.start(service);
+        long start = System.nanoTime();
         StringBuilder markdown = new StringBuilder();
 
         if (jsonNode.isObject()) {
@@ -20,7 +48,11 @@ public class MarkdownRenderer {
             markdown.append(jsonNode.asText());
         }
 
-        return markdown.toString();
+        String rendered = markdown.toString();
+        long renderedBytes = PipelineTelemetry.utf8Length(rendered);
+        telemetry.recordRender(System.nanoTime() - start, renderedBytes);
+        RenderEvent.finish(event, PipelineTelemetry.SUCCESS, renderedBytes);
+        return rendered;
     }
 
     private void renderObject(JsonNode objectNode, StringBuilder markdown, int depth) {
@@ -0,0 +1,48 @@
+package org.mveeprojects.service;
+
+import org.mveeprojects.config.SlackProperties;
+import org.mveeprojects.model.SlashCommandResponse;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+
+/**
+ * Delivers delayed slash command results to the command's response_url
+ */
+@Service
+public class ResponseUrlClient {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private final WebClient webClient;
+    private final String allowedUrlPrefix;
+
+    public ResponseUrlClient(SlackProperties slackProperties) {
+        this.webClient = WebClient.builder().build();
+        this.allowedUrlPrefix = slackProperties.getCommands().getResponseUrlPrefix();
+    }
+
+    /**
+     * Only Slack-issued URLs are accepted, so a forged response_url cannot be used
+     * to make the bot call arbitrary hosts
+     */
+    public boolean isAllowed(String responseUrl) {
+        return responseUrl != null && responseUrl.startsWith(allowedUrlPrefix);
+    }
+
+    public void send(String responseUrl, SlashCommandResponse response) {
+        if (!isAllowed(responseUrl)) {
+            throw new IllegalArgumentException("response_url is not a Slack URL: " + responseUrl);
+        }
+
+        webClient.post()
+            .uri(responseUrl)
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(response)
+            .retrieve()
+            .toBodilessEntity()
+            .block(TIMEOUT);
+    }
+}
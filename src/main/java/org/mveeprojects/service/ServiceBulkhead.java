@@ -0,0 +1,244 @@
+package org.mveeprojects.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.mveeprojects.config.ExternalServiceConfig;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A service's own connection pool and in-flight limit, so a slow upstream fills its own queue and
+ * then fails fast instead of holding connections and request threads every other service needs.
+ * Fetches beyond the limit wait without blocking a thread; beyond queue-capacity they are
+ * rejected with {@link RejectedException}. With an adaptive limit the in-flight limit follows
+ * observed latency (see {@link AimdLimit}), capped at max-in-flight.
+ */
+final class ServiceBulkhead {
+
+    private static final Logger log = LoggerFactory.getLogger(ServiceBulkhead.class);
+
+    private static final int WAITING = 0;
+    private static final int GRANTED = 1;
+    private static final int CANCELLED = 2;
+
+    private final String service;
+    private final int maxInFlight;
+    private final AimdLimit adaptiveLimit;
+    private final int queueCapacity;
+    private final ConnectionProvider connectionProvider;
+    private final WebClient webClient;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+    private final MeterRegistry meterRegistry;
+    private final Counter rejected;
+    private final Counter limitIncreases;
+    private final Counter limitDecreases;
+    private final List<Gauge> gauges;
+
+    ServiceBulkhead(ServiceRegistry.Entry service, WebClient.Builder webClientBuilder, MeterRegistry meterRegistry) {
+        ExternalServiceConfig.ServiceDefinition.Bulkhead limits = service.definition().getBulkhead();
+        this.service = service.name();
+        this.maxInFlight = limits.getMaxInFlight();
+        ExternalServiceConfig.ServiceDefinition.Bulkhead.Adaptive adaptive = limits.getAdaptive();
+        this.adaptiveLimit = adaptive != null && adaptive.isEnabled()
+            ? new AimdLimit(
+                adaptive.getInitialLimit() != null ? adaptive.getInitialLimit() : maxInFlight,
+                adaptive.getMinLimit(), maxInFlight, adaptive.getBackoffRatio(),
+                // An upstream is only "slow" relative to what it is allowed to take
+                adaptive.getLatencyThreshold() != null ? adaptive.getLatencyThreshold() : service.timeout().dividedBy(2))
+            : null;
+        this.queueCapacity = limits.getQueueCapacity();
+
+        // Fetches already wait in this bulkhead's queue, so the pool only queues the excess when
+        // there are fewer connections than fetches allowed in flight
+        this.connectionProvider = ConnectionProvider.builder("external-" + service.name())
+            .maxConnections(limits.getMaxConnections())
+            .pendingAcquireMaxCount(maxInFlight)
+            .pendingAcquireTimeout(service.timeout())
+            .disposeTimeout(service.timeout())
+            .build();
+        // No compress(): Netty's decompressor inflates each chunk without an allocation limit, so the
+        // entry's Accept-Encoding is sent as is and StreamingJsonReader inflates the body itself
+        this.webClient = webClientBuilder.clone()
+            .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connectionProvider)))
+            .build();
+
+        this.meterRegistry = meterRegistry;
+        this.rejected = Counter.builder("external.fetch.rejected")
+            .description("Upstream fetches rejected because the service's bulkhead queue was full")
+            .tag("service", service.name())
+            .register(meterRegistry);
+        this.limitIncreases = limitChanges(service.name(), "increase", meterRegistry);
+        this.limitDecreases = limitChanges(service.name(), "decrease", meterRegistry);
+        this.gauges = List.of(
+            Gauge.builder("external.fetch.concurrency.limit", this, ServiceBulkhead::limit)
+                .description("Current in-flight limit of the service's bulkhead")
+                .tag("service", service.name())
+                .register(meterRegistry),
+            Gauge.builder("external.fetch.in.flight", inFlight, AtomicInteger::get)
+                .description("Upstream fetches holding a bulkhead permit")
+                .tag("service", service.name())
+                .register(meterRegistry),
+            Gauge.builder("external.fetch.queued", queued, AtomicInteger::get)
+                .description("Upstream fetches waiting for a bulkhead permit")
+                .tag("service", service.name())
+                .register(meterRegistry));
+    }
+
+    private static Counter limitChanges(String service, String direction, MeterRegistry meterRegistry) {
+        return Counter.builder("external.fetch.concurrency.limit.changes")
+            .description("Adjustments of the service's adaptive in-flight limit")
+            .tag("service", service)
+            .tag("direction", direction)
+            .register(meterRegistry);
+    }
+
+    WebClient webClient() {
+        return webClient;
+    }
+
+    /**
+     * The in-flight limit in force now
+     */
+    int limit() {
+        return adaptiveLimit != null ? adaptiveLimit.get() : maxInFlight;
+    }
+
+    /**
+     * Run the call once a permit is free, releasing it when the call completes, fails or is cancelled.
+     * The permit is the time it was granted, so its release can feed the adaptive limit.
+     */
+    <T> Mono<T> limit(Mono<T> call) {
+        return Mono.usingWhen(acquire(), permit -> call,
+            permit -> release(permit, false),
+            (permit, error) -> release(permit, overloaded(error)),
+            permit -> release(permit, true));
+    }
+
+    /**
+     * Client errors say nothing about the upstream's load; everything else (5xx, connection
+     * failures, timeouts) counts against the limit
+     */
+    private static boolean overloaded(Throwable error) {
+        return !(error instanceof WebClientResponseException responseException
+            && responseException.getStatusCode().is4xxClientError());
+    }
+
+    private Mono<Long> acquire() {
+        return Mono.<Long>create(sink -> {
+            if (tryAcquire()) {
+                sink.success(System.nanoTime());
+                return;
+            }
+            if (queued.incrementAndGet() > queueCapacity) {
+                queued.decrementAndGet();
+                rejected.increment();
+                sink.error(new RejectedException(service, limit(), queueCapacity));
+                return;
+            }
+            Waiter waiter = new Waiter(sink);
+            sink.onCancel(() -> {
+                if (waiter.state().compareAndSet(WAITING, CANCELLED)) {
+                    queued.decrementAndGet();
+                }
+            });
+            waiters.add(waiter);
+            // A permit may have been released between tryAcquire and joining the queue
+            drain();
+        })
+        // A permit granted just as the fetch was cancelled never reaches usingWhen; hand it back
+        .doOnDiscard(Long.class, permit -> releasePermit());
+    }
+
+    private Mono<Void> release(long grantedAt, boolean dropped) {
+        return Mono.fromRunnable(() -> {
+            if (adaptiveLimit != null) {
+                adapt(System.nanoTime() - grantedAt, dropped);
+            }
+            releasePermit();
+        });
+    }
+
+    private void adapt(long rttNanos, boolean dropped) {
+        int before = adaptiveLimit.get();
+        int after = adaptiveLimit.onSample(rttNanos, inFlight.get(), dropped);
+        if (after > before) {
+            limitIncreases.increment();
+        } else if (after < before) {
+            limitDecreases.increment();
+            log.debug("Concurrency limit for {} lowered to {} ({} ms{})", service, after,
+                rttNanos / 1_000_000, dropped ? ", failed" : "");
+        }
+    }
+
+    private void releasePermit() {
+        inFlight.decrementAndGet();
+        drain();
+    }
+
+    private boolean tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= limit()) {
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    /**
+     * Hand free permits to waiters in arrival order; waiters cancelled by a timeout are skipped
+     */
+    private void drain() {
+        while (!waiters.isEmpty() && tryAcquire()) {
+            Waiter waiter = waiters.poll();
+            if (waiter != null && waiter.state().compareAndSet(WAITING, GRANTED)) {
+                queued.decrementAndGet();
+                waiter.sink().success(System.nanoTime());
+            } else {
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Close the pool once in-flight fetches have had their timeout to finish, and drop the gauges
+     * so a replacement bulkhead for the same service can register its own
+     */
+    void dispose() {
+        gauges.forEach(meterRegistry::remove);
+        connectionProvider.disposeLater().subscribe();
+    }
+
+    private record Waiter(MonoSink<Long> sink, AtomicInteger state) {
+        Waiter(MonoSink<Long> sink) {
+            this(sink, new AtomicInteger(WAITING));
+        }
+    }
+
+    /**
+     * A fetch turned away because the service already has its limit of fetches running and
+     * queue-capacity waiting. Not retried: the point is to fail fast while the service is saturated.
+     */
+    static final class RejectedException extends RuntimeException {
+        RejectedException(String service, int limit, int queueCapacity) {
+            super("Too many concurrent requests to " + service + " (" + limit + " in flight, "
+                + queueCapacity + " queued)");
+        }
+    }
+}
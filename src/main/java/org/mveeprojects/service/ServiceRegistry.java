@@ -0,0 +1,200 @@
+package org.mveeprojects.service;
+
+import org.mveeprojects.config.ExternalServiceConfig;
+import org.mveeprojects.telemetry.LatencyRecorder;
+import org.mveeprojects.telemetry.PipelineTelemetry;
+import org.springframework.http.HttpHeaders;
+import reactor.util.retry.Retry;
+import reactor.util.retry.RetryBackoffSpec;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable view of the configured external services, indexed by name. Everything a fetch derives
+ * from a definition (URI, headers, display name, retry spec) is computed once here, so a request
+ * pays a hash lookup rather than a scan over external.services.
+ * A reload builds a new registry (see {@link #withDefinitions}) rather than changing this one, so a
+ * workflow that took a registry keeps a consistent set of services until it finishes.
+ */
+public final class ServiceRegistry {
+
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(1);
+    private static final Set<String> ENCODINGS = Set.of("gzip", "deflate");
+
+    private final List<Entry> entries;
+    private final List<ExternalServiceConfig.ServiceDefinition> definitions;
+    private final Map<String, Entry> byName;
+    private final long generation;
+    private final PipelineTelemetry telemetry;
+
+    private ServiceRegistry(List<Entry> entries, long generation, PipelineTelemetry telemetry) {
+        this.generation = generation;
+        this.telemetry = telemetry;
+        this.entries = List.copyOf(entries);
+        this.definitions = this.entries.stream().map(Entry::definition).toList();
+        Map<String, Entry> index = new HashMap<>(entries.size() * 2);
+        for (Entry entry : this.entries) {
+            if (index.putIfAbsent(entry.name(), entry) != null) {
+                throw new IllegalArgumentException("Duplicate external service name: " + entry.name());
+            }
+        }
+        this.byName = Map.copyOf(index);
+    }
+
+    /**
+     * Build a registry from external.services; a missing list gives an empty registry
+     */
+    public static ServiceRegistry from(List<ExternalServiceConfig.ServiceDefinition> definitions,
+                                       PipelineTelemetry telemetry) {
+        return new ServiceRegistry(List.of(), 0, telemetry).withDefinitions(definitions);
+    }
+
+    /**
+     * A new registry for the given definitions. Entries whose definition is unchanged are carried over
+     * as the same instance, so anything held per entry instance (pools, caches) survives the reload.
+     */
+    public ServiceRegistry withDefinitions(List<ExternalServiceConfig.ServiceDefinition> definitions) {
+        if (definitions == null) {
+            return new ServiceRegistry(List.of(), generation + 1, telemetry);
+        }
+        List<Entry> next = definitions.stream()
+            .map(definition -> {
+                Entry existing = get(definition.getName());
+                return existing != null && existing.definition().equals(definition)
+                    ? existing
+                    : Entry.of(definition, telemetry);
+            })
+            .toList();
+        return new ServiceRegistry(next, generation + 1, telemetry);
+    }
+
+    /**
+     * The entry for a service name, or null if no such service is configured
+     */
+    public Entry get(String name) {
+        return name != null ? byName.get(name) : null;
+    }
+
+    /**
+     * The name to show for a service, falling back to the name itself for unknown services
+     */
+    public String displayName(String name) {
+        Entry entry = get(name);
+        return entry != null ? entry.displayName() : name;
+    }
+
+    /**
+     * Entries in configuration order
+     */
+    public List<Entry> entries() {
+        return entries;
+    }
+
+    /**
+     * The original definitions, in configuration order
+     */
+    public List<ExternalServiceConfig.ServiceDefinition> definitions() {
+        return definitions;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Incremented by every reload; the registry built at startup is generation 1
+     */
+    public long generation() {
+        return generation;
+    }
+
+    /**
+     * One service with its request settings resolved
+     */
+    public record Entry(ExternalServiceConfig.ServiceDefinition definition,
+                        String name,
+                        String displayName,
+                        URI uri,
+                        HttpHeaders headers,
+                        Duration timeout,
+                        RetryBackoffSpec retry) {
+
+        static Entry of(ExternalServiceConfig.ServiceDefinition definition, PipelineTelemetry telemetry) {
+            String name = definition.getName();
+            if (name == null || name.isBlank()) {
+                throw new IllegalArgumentException("External service without a name: " + definition.getUrl());
+            }
+            if (name.startsWith(LatencyRecorder.STAGE_PREFIX)) {
+                throw new IllegalArgumentException("External service name " + name + " may not start with "
+                    + LatencyRecorder.STAGE_PREFIX + ", which is kept for pipeline stages");
+            }
+            if (definition.getUrl() == null) {
+                throw new IllegalArgumentException("External service " + name + " has no url");
+            }
+            ExternalServiceConfig.ServiceDefinition.Bulkhead bulkhead = definition.getBulkhead();
+            if (bulkhead == null || bulkhead.getMaxConnections() <= 0 || bulkhead.getMaxInFlight() <= 0
+                    || bulkhead.getQueueCapacity() < 0) {
+                throw new IllegalArgumentException("External service " + name + " has invalid bulkhead limits");
+            }
+            ExternalServiceConfig.ServiceDefinition.Bulkhead.Adaptive adaptive = bulkhead.getAdaptive();
+            if (adaptive != null && adaptive.isEnabled() && (adaptive.getMinLimit() <= 0
+                    || adaptive.getMinLimit() > bulkhead.getMaxInFlight()
+                    || adaptive.getBackoffRatio() <= 0 || adaptive.getBackoffRatio() >= 1
+                    || adaptive.getInitialLimit() != null && adaptive.getInitialLimit() <= 0
+                    || adaptive.getLatencyThreshold() != null && !adaptive.getLatencyThreshold().isPositive())) {
+                throw new IllegalArgumentException("External service " + name + " has invalid adaptive limit settings");
+            }
+
+            HttpHeaders headers = new HttpHeaders();
+            if (definition.getHeaders() != null) {
+                definition.getHeaders().forEach(headers::add);
+            }
+            String acceptEncoding = acceptEncoding(name, definition.getCompression());
+            if (acceptEncoding != null) {
+                headers.set(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+            }
+
+            return new Entry(
+                definition,
+                name,
+                definition.getDisplayName() != null ? definition.getDisplayName() : name,
+                URI.create(definition.getUrl()),
+                HttpHeaders.readOnlyHttpHeaders(headers),
+                Duration.ofMillis(definition.getTimeout()),
+                Retry.fixedDelay(definition.getRetryAttempts(), RETRY_DELAY)
+                    .filter(error -> !(error instanceof ServiceBulkhead.RejectedException))
+                    .doBeforeRetry(signal -> telemetry.recordRetry(name))
+            );
+        }
+
+        /**
+         * Whether responses are negotiated compressed and must be read through the size guard
+         */
+        public boolean compressed() {
+            return definition.getCompression() != null && definition.getCompression().isEnabled();
+        }
+
+        /**
+         * The Accept-Encoding to send, or null when compression is off
+         */
+        private static String acceptEncoding(String name, ExternalServiceConfig.ServiceDefinition.Compression compression) {
+            if (compression == null || !compression.isEnabled()) {
+                return null;
+            }
+            if (compression.getEncodings() == null || compression.getEncodings().isEmpty()
+                    || !ENCODINGS.containsAll(compression.getEncodings())) {
+                throw new IllegalArgumentException("External service " + name + " has invalid compression encodings "
+                    + compression.getEncodings() + "; supported: gzip, deflate");
+            }
+            if (compression.getMaxDecompressedSize() == null || compression.getMaxDecompressedSize().toBytes() <= 0) {
+                throw new IllegalArgumentException("External service " + name + " has an invalid max-decompressed-size");
+            }
+            return String.join(", ", compression.getEncodings());
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package org.mveeprojects.service;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * /actuator/services - the external services currently in use; POST re-reads external.reload.file.
+ * Exposed over HTTP only by the admin profile, on the localhost management port.
+ */
+@Component
+@Endpoint(id = "services")
+public class ServiceRegistryEndpoint {
+
+    private final ExternalServiceClient externalServiceClient;
+    private final ServiceRegistryReloader reloader;
+
+    public ServiceRegistryEndpoint(ExternalServiceClient externalServiceClient, ServiceRegistryReloader reloader) {
+        this.externalServiceClient = externalServiceClient;
+        this.reloader = reloader;
+    }
+
+    @ReadOperation
+    public Map<String, Object> services() {
+        return describe(externalServiceClient.getServiceRegistry());
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<Map<String, Object>> reload() {
+        try {
+            return new WebEndpointResponse<>(describe(reloader.reload()));
+        } catch (IllegalStateException | IllegalArgumentException e) {
+            Map<String, Object> error = new LinkedHashMap<>();
+            error.put("error", e.getMessage());
+            error.put("current", describe(externalServiceClient.getServiceRegistry()));
+            return new WebEndpointResponse<>(error, WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+    }
+
+    private Map<String, Object> describe(ServiceRegistry registry) {
+        List<Map<String, Object>> services = registry.entries().stream()
+            .map(service -> Map.<String, Object>of(
+                "name", service.name(),
+                "displayName", service.displayName(),
+                "url", service.uri().toString(),
+                "timeout", service.timeout().toMillis(),
+                "retryAttempts", service.definition().getRetryAttempts(),
+                "bulkhead", Map.of(
+                    "maxConnections", service.definition().getBulkhead().getMaxConnections(),
+                    "maxInFlight", service.definition().getBulkhead().getMaxInFlight(),
+                    "queueCapacity", service.definition().getBulkhead().getQueueCapacity())
+            ))
+            .toList();
+
+        Map<String, Object> view = new LinkedHashMap<>();
+        view.put("generation", registry.generation());
+        view.put("file", reloader.getFile() != null ? reloader.getFile().toString() : "");
+        view.put("services", services);
+        return view;
+    }
+}
@@ -0,0 +1,191 @@
+package org.mveeprojects.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.mveeprojects.config.ExternalServiceConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.bind.PropertySourcesPlaceholdersResolver;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reloads external services from external.reload.file, either when the file changes or on
+ * demand through /actuator/services. Only a file that parses and validates replaces the registry;
+ * anything else is logged and the running services stay as they were.
+ */
+@Component
+public class ServiceRegistryReloader implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ServiceRegistryReloader.class);
+
+    private final ExternalServiceClient externalServiceClient;
+    private final ExternalServiceConfig.Reload settings;
+    private final ConfigurableEnvironment environment;
+    private final Path file;
+    private final Counter reloads;
+    private final Counter failedReloads;
+
+    private byte[] loadedContent;
+    private WatchService watchService;
+    private Thread watcher;
+
+    public ServiceRegistryReloader(ExternalServiceClient externalServiceClient,
+                                   ExternalServiceConfig externalServiceConfig,
+                                   ConfigurableEnvironment environment,
+                                   MeterRegistry meterRegistry) {
+        this.externalServiceClient = externalServiceClient;
+        this.settings = externalServiceConfig.getReload();
+        this.environment = environment;
+        this.file = settings.getFile() != null && !settings.getFile().isBlank()
+            ? Path.of(settings.getFile()).toAbsolutePath()
+            : null;
+        this.reloads = Counter.builder("external.services.reloads")
+            .description("Service registry reloads from the services file, by outcome")
+            .tag("outcome", "success")
+            .register(meterRegistry);
+        this.failedReloads = Counter.builder("external.services.reloads")
+            .description("Service registry reloads from the services file, by outcome")
+            .tag("outcome", "error")
+            .register(meterRegistry);
+
+        // The file replaces the services in application.yml from the start; a bad file fails startup
+        if (file != null) {
+            reload();
+        }
+    }
+
+    /**
+     * Re-read the services file and swap in the result if it differs from what is loaded
+     *
+     * @throws IllegalStateException if no file is configured
+     * @throws IllegalArgumentException if the file cannot be read or holds invalid services
+     */
+    public synchronized ServiceRegistry reload() {
+        if (file == null) {
+            throw new IllegalStateException("No services file configured (external.reload.file)");
+        }
+        try {
+            byte[] content = Files.readAllBytes(file);
+            if (Arrays.equals(content, loadedContent)) {
+                return externalServiceClient.getServiceRegistry();
+            }
+            ServiceRegistry registry = externalServiceClient.reloadServices(parse(content));
+            loadedContent = content;
+            reloads.increment();
+            log.info("Loaded {} external services from {} (generation {})", registry.size(), file, registry.generation());
+            return registry;
+        } catch (IOException e) {
+            throw failed(new IllegalArgumentException("Could not read " + file, e));
+        } catch (RuntimeException e) {
+            throw failed(e);
+        }
+    }
+
+    private RuntimeException failed(RuntimeException e) {
+        failedReloads.increment();
+        log.warn("Keeping the current external services; could not load {}: {}", file, e.getMessage());
+        return e;
+    }
+
+    /**
+     * Bind external.services from the file the same way application.yml is bound, with
+     * placeholders such as ${PRIMARY_API_TOKEN:} resolved against the environment
+     */
+    private List<ExternalServiceConfig.ServiceDefinition> parse(byte[] content) {
+        try {
+            Binder binder = new Binder(
+                ConfigurationPropertySources.from(new YamlPropertySourceLoader()
+                    .load(file.toString(), new ByteArrayResource(content))),
+                new PropertySourcesPlaceholdersResolver(environment));
+            return binder.bind("external.services", Bindable.listOf(ExternalServiceConfig.ServiceDefinition.class))
+                .orElse(List.of());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (file == null || !settings.isWatch()) {
+            return;
+        }
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            // Watch the directory: editors and Kubernetes ConfigMaps replace the file rather than writing to it
+            file.getParent().register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not watch " + file, e);
+        }
+        watcher = Thread.ofPlatform().name("service-registry-watcher").daemon().start(this::watch);
+    }
+
+    private void watch() {
+        WatchService events = watchService;
+        try {
+            while (true) {
+                WatchKey key = events.take();
+                // Let a burst of events (write, rename, chmod) settle into one reload
+                Thread.sleep(settings.getDebounce().toMillis());
+                key.pollEvents();
+                key.reset();
+                WatchKey more;
+                while ((more = events.poll(0, TimeUnit.MILLISECONDS)) != null) {
+                    more.pollEvents();
+                    more.reset();
+                }
+                if (Files.exists(file)) {
+                    try {
+                        reload();
+                    } catch (RuntimeException alreadyLogged) {
+                        // keep watching for a corrected file
+                    }
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // stopped
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (watcher != null) {
+            watcher.interrupt();
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                log.debug("Error closing the services file watcher", e);
+            }
+            watcher = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return watcher != null;
+    }
+}
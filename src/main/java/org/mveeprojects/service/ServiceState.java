@@ -0,0 +1,54 @@
+package org.mveeprojects.service;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * What the client keeps between fetches for one registry entry: the service's bulkhead and the last
+ * response worth revalidating. Held per entry instance, so a reload that carries an entry over keeps
+ * its state and one that replaces the entry starts afresh.
+ */
+final class ServiceState {
+
+    private final ServiceBulkhead bulkhead;
+    private final AtomicReference<ValidatedResponse> validated = new AtomicReference<>();
+    private volatile boolean retired;
+
+    ServiceState(ServiceBulkhead bulkhead) {
+        this.bulkhead = bulkhead;
+    }
+
+    ServiceBulkhead bulkhead() {
+        return bulkhead;
+    }
+
+    /**
+     * The last response with validators, or null
+     */
+    ValidatedResponse validated() {
+        return validated.get();
+    }
+
+    /**
+     * Keep a response for revalidation; null forgets the previous one. A fetch that completes after
+     * its entry was retired must not leave the response behind, so the flag is checked again after
+     * the write: either this sees it or retire() clears what was written.
+     */
+    void keep(ValidatedResponse response) {
+        if (retired) {
+            return;
+        }
+        validated.set(response);
+        if (retired) {
+            validated.set(null);
+        }
+    }
+
+    /**
+     * Called once the entry has left the registry: drop the cached response and close the bulkhead
+     */
+    void retire() {
+        retired = true;
+        validated.set(null);
+        bulkhead.dispose();
+    }
+}
@@ -0,0 +1,21 @@
+package org.mveeprojects.service;
+
+/**
+ * Remembers Slack event ids so that retried deliveries of the same event are
+ * only processed once. Implementations may be backed by a shared store when
+ * several app nodes sit behind the same Slack request URL.
+ */
+public interface SlackEventDeduplicator {
+
+    /**
+     * Record a delivery of the given event id
+     *
+     * @return true if the id was already seen within the deduplication window
+     */
+    boolean isDuplicate(String eventId);
+
+    /**
+     * Drop a recorded delivery that was not processed after all, so a redelivery is accepted
+     */
+    void forget(String eventId);
+}
@@ -5,6 +5,10 @@ import com.slack.api.methods.response.chat.ChatPostMessageResponse;
 import com.slack.api.model.block.LayoutBlock;
 import com.slack.api.model.block.SectionBlock;
 import com.slack.api.model.block.composition.MarkdownTextObject;
+import io.micrometer.common.KeyValues;
+import org.mveeprojects.telemetry.PipelineTelemetry;
+import org.mveeprojects.telemetry.SlackPostEvent;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import com.slack.api.methods.MethodsClient;
 
@@ -18,12 +22,34 @@ import java.util.List;
 public class SlackService {
 
     private final MethodsClient methodsClient;
+    private final PipelineTelemetry telemetry;
 
     public SlackService(MethodsClient methodsClient) {
+        this(methodsClient, PipelineTelemetry.noop());
+    }
+
+    @Autowired
+    public SlackService(MethodsClient methodsClient, PipelineTelemetry telemetry) {
         this.methodsClient = methodsClient;
+        this.telemetry = telemetry;
     }
 
     public void postThreadResponse(String channel, String threadTs, String markdownContent) {
+        postThreadResponse(channel, threadTs, markdownContent, null);
+    }
+
+    /**
+     * @param service the service whose response is posted, recorded on the SlackPost JFR event
+     */
+    public void postThreadResponse(String channel, String threadTs, String markdownContent, String service) {
+        telemetry.observe("pipeline.slack.post", KeyValues.empty(),
+                          () -> post(channel, threadTs, markdownContent, service));
+    }
+
+    private void post(String channel, String threadTs, String markdownContent, String service) {
+        SlackPostEvent event = SlackPostEvent.start(service, channel);
+        long start = System.nanoTime();
+        String outcome = PipelineTelemetry.ERROR;
         try {
             // Create markdown blocks for better formatting
             List<LayoutBlock> blocks = List.of(
@@ -41,11 +67,24 @@ public class SlackService {
             );
 
             if (!response.isOk()) {
+                telemetry.recordSlackPost(PipelineTelemetry.ERROR, String.valueOf(response.getError()),
+                                          System.nanoTime() - start);
                 throw new RuntimeException("Failed to post message to Slack: " + response.getError());
             }
+            telemetry.recordSlackPost(PipelineTelemetry.SUCCESS, "none", System.nanoTime() - start);
+            outcome = PipelineTelemetry.SUCCESS;
 
-        } catch (IOException | SlackApiException e) {
+        } catch (IOException e) {
+            telemetry.recordSlackPost(PipelineTelemetry.ERROR, "io_error", System.nanoTime() - start);
+            throw new RuntimeException("Error posting to Slack thread", e);
+        } catch (SlackApiException e) {
+            String errorCode = e.getError() != null && e.getError().getError() != null
+                ? e.getError().getError()
+                : "http_" + (e.getResponse() != null ? e.getResponse().code() : "unknown");
+            telemetry.recordSlackPost(PipelineTelemetry.ERROR, errorCode, System.nanoTime() - start);
             throw new RuntimeException("Error posting to Slack thread", e);
+        } finally {
+            SlackPostEvent.finish(event, outcome, PipelineTelemetry.utf8Length(markdownContent));
         }
     }
 }
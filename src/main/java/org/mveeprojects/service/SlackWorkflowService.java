@@ -1,11 +1,18 @@
 package org.mveeprojects.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import org.mveeprojects.config.ExternalServiceConfig;
+import io.micrometer.common.KeyValues;
+import org.mveeprojects.telemetry.PipelineTelemetry;
+import org.mveeprojects.telemetry.WorkflowEvent;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
 
 /**
  * Unified service that handles the complete workflow:
@@ -19,62 +26,131 @@ public class SlackWorkflowService {
     private final ExternalServiceClient externalServiceClient;
     private final MarkdownRenderer markdownRenderer;
     private final SlackService slackService;
+    private final PipelineTelemetry telemetry;
 
     public SlackWorkflowService(ExternalServiceClient externalServiceClient,
                                MarkdownRenderer markdownRenderer,
-                               SlackService slackService) {
+                               SlackService slackService,
+                               PipelineTelemetry telemetry) {
         this.externalServiceClient = externalServiceClient;
         this.markdownRenderer = markdownRenderer;
         this.slackService = slackService;
+        this.telemetry = telemetry;
     }
 
     /**
      * Execute the complete workflow: fetch data from all configured services, convert to markdown, and post to Slack
      */
     public void executeWorkflow(String channel, String threadTs) {
+        timed("execute", "*", () -> postAllServices(channel, threadTs), Long::longValue);
+    }
+
+    private long postAllServices(String channel, String threadTs) {
+        long postedBytes = 0;
+
+        // One registry snapshot for the whole workflow, so a reload cannot change it halfway through
+        ServiceRegistry registry = externalServiceClient.getServiceRegistry();
+
         // Fetch data from all configured external services
-        Map<String, Mono<JsonNode>> serviceResponses = externalServiceClient.fetchAllServices();
+        Map<String, Mono<JsonNode>> serviceResponses = externalServiceClient.fetchAllServices(registry);
 
         // Process each service response
-        for (ExternalServiceConfig.ServiceDefinition service : externalServiceClient.getConfiguredServices()) {
-            String serviceName = service.getName();
-            String displayName = service.getDisplayName() != null ? service.getDisplayName() : serviceName;
+        for (ServiceRegistry.Entry service : registry.entries()) {
+            String displayName = service.displayName();
 
-            Mono<JsonNode> responseMono = serviceResponses.get(serviceName);
+            Mono<JsonNode> responseMono = serviceResponses.get(service.name());
             if (responseMono != null) {
                 JsonNode response = responseMono.block();
                 if (response != null) {
                     String markdownContent = String.format("**%s Response:**\n\n%s",
                                                          displayName,
-                                                         markdownRenderer.renderJsonToMarkdown(response));
-                    slackService.postThreadResponse(channel, threadTs, markdownContent);
+                                                         render(service, response));
+                    slackService.postThreadResponse(channel, threadTs, markdownContent, service.name());
+                    postedBytes += PipelineTelemetry.utf8Length(markdownContent);
                 }
             }
         }
+        return postedBytes;
     }
 
     /**
      * Execute workflow for specific services by name
      */
     public void executeWorkflowForServices(String channel, String threadTs, String... serviceNames) {
+        timed("execute_services", String.join(",", serviceNames),
+              () -> postServices(channel, threadTs, serviceNames), Long::longValue);
+    }
+
+    private long postServices(String channel, String threadTs, String... serviceNames) {
+        long postedBytes = 0;
+        ServiceRegistry registry = externalServiceClient.getServiceRegistry();
         for (String serviceName : serviceNames) {
-            Mono<JsonNode> responseMono = externalServiceClient.fetchFromService(serviceName);
+            Mono<JsonNode> responseMono = externalServiceClient.fetchFromService(registry, serviceName);
             JsonNode response = responseMono.block();
 
             if (response != null) {
-                // Find the service config to get display name
-                String displayName = externalServiceClient.getConfiguredServices().stream()
-                    .filter(service -> service.getName().equals(serviceName))
-                    .map(service -> service.getDisplayName() != null ? service.getDisplayName() : service.getName())
-                    .findFirst()
-                    .orElse(serviceName);
-
                 String markdownContent = String.format("**%s Response:**\n\n%s",
-                                                     displayName,
-                                                     markdownRenderer.renderJsonToMarkdown(response));
-                slackService.postThreadResponse(channel, threadTs, markdownContent);
+                                                     registry.displayName(serviceName),
+                                                     render(registry.get(serviceName), response));
+                slackService.postThreadResponse(channel, threadTs, markdownContent, serviceName);
+                postedBytes += PipelineTelemetry.utf8Length(markdownContent);
             }
         }
+        return postedBytes;
+    }
+
+    /**
+     * Fetch the given services (all configured services if none are given) in parallel
+     * and render each response to markdown, in the order requested
+     */
+    public List<String> renderWorkflow(String... serviceNames) {
+        return timed("render", serviceNames.length > 0 ? String.join(",", serviceNames) : "*",
+                     () -> renderServices(serviceNames),
+                     results -> results.stream().mapToLong(PipelineTelemetry::utf8Length).sum());
+    }
+
+    private List<String> renderServices(String... serviceNames) {
+        ServiceRegistry registry = externalServiceClient.getServiceRegistry();
+        List<String> names = serviceNames.length > 0
+            ? Arrays.asList(serviceNames)
+            : registry.entries().stream()
+                .map(ServiceRegistry.Entry::name)
+                .toList();
+
+        return Flux.fromIterable(names)
+            .flatMapSequential(serviceName -> externalServiceClient.fetchFromService(registry, serviceName)
+                .map(response -> String.format("**%s Response:**\n\n%s",
+                                               registry.displayName(serviceName),
+                                               render(registry.get(serviceName), response))))
+            .collectList()
+            .block();
+    }
+
+    /**
+     * Render a response to markdown; an unchanged response revalidated with a 304 is not rendered again
+     */
+    private String render(ServiceRegistry.Entry service, JsonNode response) {
+        return externalServiceClient.renderedMarkdown(service, response,
+            json -> markdownRenderer.renderJsonToMarkdown(service.name(), json));
+    }
+
+    /**
+     * Record end-to-end latency of a workflow operation, split by outcome
+     */
+    private <T> T timed(String operation, String services, Supplier<T> workflow, ToLongFunction<T> payloadBytes) {
+        WorkflowEvent event = WorkflowEvent.start(operation, services);
+        long start = System.nanoTime();
+        String outcome = PipelineTelemetry.ERROR;
+        long bytes = 0;
+        try {
+            T result = telemetry.observe("pipeline.workflow", KeyValues.of("operation", operation), workflow);
+            outcome = PipelineTelemetry.SUCCESS;
+            bytes = payloadBytes.applyAsLong(result);
+            return result;
+        } finally {
+            telemetry.recordWorkflow(operation, outcome, System.nanoTime() - start);
+            WorkflowEvent.finish(event, outcome, bytes);
+        }
     }
 
     /**
@@ -0,0 +1,301 @@
+package org.mveeprojects.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Locale;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Reads a JSON body as its chunks arrive, inflating gzip or deflate itself through a fixed-size
+ * window, so no chunk ever inflates into more memory than the window however well it compresses.
+ * Decoded bytes go straight into Jackson's non-blocking parser without being copied or joined,
+ * and are counted as they go, so an oversized body or a decompression bomb fails as soon as it
+ * crosses the limit. The parsed tokens are buffered until the body ends and the tree is built,
+ * so memory still grows with the decoded body, up to the limit.
+ */
+final class StreamingJsonReader {
+
+    private static final int WINDOW_SIZE = 8192;
+    private static final int MAX_GZIP_HEADER = 64 * 1024;
+    private static final int GZIP_TRAILER = 8;
+
+    private enum Encoding { IDENTITY, GZIP, DEFLATE }
+
+    private final ObjectMapper objectMapper;
+    private final long maxBytes;
+    private final Encoding encoding;
+    private final JsonParser parser;
+    private final ByteBufferFeeder feeder;
+    private final TokenBuffer tokens;
+    private final ByteArrayOutputStream pending = new ByteArrayOutputStream();
+    private ByteBuffer window;
+    private Inflater inflater;
+    private CRC32 crc;
+    private boolean received;
+    private boolean done;
+    private long bytesRead;
+
+    private StreamingJsonReader(ObjectMapper objectMapper, Encoding encoding, long maxBytes) throws IOException {
+        this.objectMapper = objectMapper;
+        this.encoding = encoding;
+        this.maxBytes = maxBytes;
+        this.parser = objectMapper.getFactory().createNonBlockingByteBufferParser();
+        this.feeder = (ByteBufferFeeder) parser.getNonBlockingInputFeeder();
+        this.tokens = new TokenBuffer(parser);
+    }
+
+    /**
+     * A parsed body and its decoded size; the tree is null for an empty body (e.g. a 304)
+     */
+    record Body(JsonNode json, long bytes) {
+    }
+
+    /**
+     * Decode and parse a body sent with the given Content-Encoding (null for none)
+     *
+     * @throws DataBufferLimitException (as an error signal) once more than maxBytes have been decoded
+     */
+    static Mono<Body> read(Flux<DataBuffer> body, String contentEncoding, ObjectMapper objectMapper, long maxBytes) {
+        return Mono.using(
+            () -> new StreamingJsonReader(objectMapper, encodingOf(contentEncoding), maxBytes),
+            reader -> body
+                .doOnNext(reader::feed)
+                .then(Mono.fromCallable(reader::finish)),
+            StreamingJsonReader::close);
+    }
+
+    private static Encoding encodingOf(String contentEncoding) throws IOException {
+        String encoding = contentEncoding != null ? contentEncoding.trim().toLowerCase(Locale.ROOT) : "";
+        return switch (encoding) {
+            case "", "identity" -> Encoding.IDENTITY;
+            case "gzip", "x-gzip" -> Encoding.GZIP;
+            case "deflate" -> Encoding.DEFLATE;
+            default -> throw new IOException("Unsupported Content-Encoding: " + contentEncoding);
+        };
+    }
+
+    private void feed(DataBuffer buffer) {
+        try (DataBuffer.ByteBufferIterator chunks = buffer.readableByteBuffers()) {
+            while (chunks.hasNext()) {
+                ByteBuffer chunk = chunks.next();
+                received |= chunk.hasRemaining();
+                if (encoding == Encoding.IDENTITY) {
+                    parse(chunk);
+                } else {
+                    decode(chunk);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+
+    /**
+     * Inflate a chunk of the encoded body. The gzip header and the start of a deflate stream are
+     * collected until complete; once the deflate stream ends, the gzip trailer is checked and
+     * anything after it ignored.
+     */
+    private void decode(ByteBuffer chunk) throws IOException {
+        if (done) {
+            return;
+        }
+        if (inflater == null) {
+            chunk = startInflating(chunk);
+            if (chunk == null) {
+                return;
+            }
+        }
+        if (!inflater.finished()) {
+            inflate(chunk);
+        }
+        if (inflater.finished() && encoding == Encoding.GZIP) {
+            int take = Math.min(chunk.remaining(), GZIP_TRAILER - pending.size());
+            for (int i = 0; i < take; i++) {
+                pending.write(chunk.get());
+            }
+            if (pending.size() == GZIP_TRAILER) {
+                checkTrailer(ByteBuffer.wrap(pending.toByteArray()).order(ByteOrder.LITTLE_ENDIAN));
+                done = true;
+            }
+        } else if (inflater.finished()) {
+            done = true;
+        }
+    }
+
+    /**
+     * Collect the stream's header, and once it is complete create the inflater
+     *
+     * @return the chunk's input after the header, or null while the header is incomplete
+     */
+    private ByteBuffer startInflating(ByteBuffer chunk) throws IOException {
+        byte[] bytes = new byte[chunk.remaining()];
+        chunk.get(bytes);
+        pending.write(bytes);
+        byte[] start = pending.toByteArray();
+        int headerLength;
+        boolean zlibWrapped = false;
+        if (encoding == Encoding.GZIP) {
+            headerLength = gzipHeaderLength(start);
+            if (headerLength < 0 && start.length > MAX_GZIP_HEADER) {
+                throw new IOException("gzip header exceeds " + MAX_GZIP_HEADER + " bytes");
+            }
+        } else {
+            // HTTP deflate is meant to be zlib-wrapped, but some servers send a raw deflate stream
+            headerLength = start.length >= 2 ? 0 : -1;
+            zlibWrapped = headerLength == 0 && (start[0] & 0x0F) == 8 && (start[0] & 0xFF) >> 4 <= 7
+                && ((start[0] & 0xFF) << 8 | (start[1] & 0xFF)) % 31 == 0;
+        }
+        if (headerLength < 0) {
+            return null;
+        }
+        pending.reset();
+        inflater = new Inflater(!zlibWrapped);
+        window = ByteBuffer.allocate(WINDOW_SIZE);
+        if (encoding == Encoding.GZIP) {
+            crc = new CRC32();
+        }
+        return ByteBuffer.wrap(start, headerLength, start.length - headerLength);
+    }
+
+    /**
+     * Inflate as much of the input as the stream takes, a window at a time, parsing each window
+     * before the next is inflated into the same buffer
+     */
+    private void inflate(ByteBuffer input) throws IOException {
+        inflater.setInput(input);
+        try {
+            while (!inflater.finished()) {
+                int inflated = inflater.inflate(window);
+                if (inflated == 0) {
+                    if (inflater.needsDictionary()) {
+                        throw new IOException("Invalid " + encoding + " body: preset dictionary required");
+                    }
+                    if (inflater.needsInput()) {
+                        break;
+                    }
+                }
+                window.flip();
+                if (crc != null) {
+                    window.mark();
+                    crc.update(window);
+                    window.reset();
+                }
+                parse(window);
+                window.clear();
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Invalid " + encoding + " body: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Count decoded bytes against the limit and hand them to the parser, which must have taken all
+     * of them before the buffer is reused or released
+     */
+    private void parse(ByteBuffer decoded) throws IOException {
+        bytesRead += decoded.remaining();
+        if (bytesRead > maxBytes) {
+            throw new DataBufferLimitException("Response body exceeds the limit of " + maxBytes + " bytes");
+        }
+        if (decoded.hasRemaining()) {
+            feeder.feedInput(decoded);
+            drain();
+        }
+    }
+
+    private Body finish() throws IOException {
+        if (!received) {
+            return new Body(null, 0);
+        }
+        if (encoding != Encoding.IDENTITY && !done) {
+            throw new IOException("Truncated " + encoding + " body");
+        }
+        feeder.endOfInput();
+        drain();
+        if (bytesRead == 0) {
+            return new Body(null, 0);
+        }
+        try (JsonParser tree = tokens.asParser(objectMapper)) {
+            return new Body(objectMapper.readTree(tree), bytesRead);
+        }
+    }
+
+    /**
+     * Copy every token the input so far completes; a token split across chunks waits for the next one
+     */
+    private void drain() throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            tokens.copyCurrentEvent(parser);
+        }
+    }
+
+    /**
+     * Length of the gzip member header (RFC 1952) at the start of the bytes, or -1 if they end first
+     */
+    private static int gzipHeaderLength(byte[] bytes) throws IOException {
+        if (bytes.length < 10) {
+            return -1;
+        }
+        if ((bytes[0] & 0xFF) != 0x1F || (bytes[1] & 0xFF) != 0x8B || bytes[2] != 8) {
+            throw new IOException("Not a gzip body");
+        }
+        int flags = bytes[3];
+        int position = 10;
+        if ((flags & 0x04) != 0) {
+            if (bytes.length < position + 2) {
+                return -1;
+            }
+            position += 2 + ((bytes[position] & 0xFF) | (bytes[position + 1] & 0xFF) << 8);
+        }
+        for (int field : new int[] {0x08, 0x10}) {
+            if ((flags & field) != 0) {
+                while (position < bytes.length && bytes[position] != 0) {
+                    position++;
+                }
+                position++;
+            }
+        }
+        if ((flags & 0x02) != 0) {
+            position += 2;
+        }
+        return position <= bytes.length ? position : -1;
+    }
+
+    private void checkTrailer(ByteBuffer trailer) throws IOException {
+        if ((int) crc.getValue() != trailer.getInt() || (int) inflater.getBytesWritten() != trailer.getInt()) {
+            throw new IOException("Corrupt gzip body: checksum or length mismatch");
+        }
+    }
+
+    private void close() {
+        if (inflater != null) {
+            inflater.end();
+        }
+        try {
+            parser.close();
+            tokens.close();
+        } catch (IOException e) {
+            // nothing left to release
+        }
+    }
+}
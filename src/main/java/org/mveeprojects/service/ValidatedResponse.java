@@ -0,0 +1,65 @@
+package org.mveeprojects.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.http.HttpHeaders;
+
+import java.util.function.Function;
+
+/**
+ * The last response from a service that came with an ETag or Last-Modified validator. A 304 on
+ * revalidation hands back the same parsed body, and its markdown is rendered at most once.
+ * The body is shared between fetches, so it must not be modified.
+ */
+final class ValidatedResponse {
+
+    private final JsonNode body;
+    private final String etag;
+    private final String lastModified;
+    private volatile String markdown;
+
+    private ValidatedResponse(JsonNode body, String etag, String lastModified) {
+        this.body = body;
+        this.etag = etag;
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * The response worth keeping for revalidation, or null if the upstream sent no validators
+     */
+    static ValidatedResponse of(JsonNode body, HttpHeaders headers) {
+        String etag = headers.getETag();
+        String lastModified = headers.getFirst(HttpHeaders.LAST_MODIFIED);
+        return body != null && (etag != null || lastModified != null)
+            ? new ValidatedResponse(body, etag, lastModified)
+            : null;
+    }
+
+    JsonNode body() {
+        return body;
+    }
+
+    /**
+     * Add If-None-Match and If-Modified-Since for whichever validators the upstream sent
+     */
+    void addConditions(HttpHeaders headers) {
+        if (etag != null) {
+            headers.set(HttpHeaders.IF_NONE_MATCH, etag);
+        }
+        if (lastModified != null) {
+            headers.set(HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+        }
+    }
+
+    /**
+     * The body rendered to markdown, rendering it on first use. Two threads racing here may both
+     * render, which only costs the work the cache would have saved.
+     */
+    String markdown(Function<JsonNode, String> renderer) {
+        String rendered = markdown;
+        if (rendered == null) {
+            rendered = renderer.apply(body);
+            markdown = rendered;
+        }
+        return rendered;
+    }
+}
@@ -0,0 +1,95 @@
+package org.mveeprojects.telemetry;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Appends finished spans to a local file, one line per span, for runs without a collector
+ */
+public class FileSpanExporter implements SpanExporter {
+
+    private static final Logger log = LoggerFactory.getLogger(FileSpanExporter.class);
+
+    private final Path file;
+    private final Writer writer;
+
+    public FileSpanExporter(Path file) throws IOException {
+        this.file = file;
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+            StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> spans) {
+        try {
+            for (SpanData span : spans) {
+                writer.write(format(span));
+                writer.write('\n');
+            }
+            writer.flush();
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            log.warn("Failed to write spans to {}: {}", file, e.getMessage());
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    @Override
+    public synchronized CompletableResultCode flush() {
+        try {
+            writer.flush();
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    @Override
+    public synchronized CompletableResultCode shutdown() {
+        try {
+            writer.close();
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    /**
+     * traceId spanId parentSpanId name durationMs status key=value...
+     */
+    static String format(SpanData span) {
+        StringBuilder line = new StringBuilder()
+            .append(span.getTraceId()).append(' ')
+            .append(span.getSpanId()).append(' ')
+            .append(span.getParentSpanContext().isValid() ? span.getParentSpanId() : "-").append(' ')
+            .append(span.getName()).append(' ')
+            .append(String.format("%.3f", (span.getEndEpochNanos() - span.getStartEpochNanos())
+                / (double) TimeUnit.MILLISECONDS.toNanos(1))).append("ms ")
+            .append(span.getStatus().getStatusCode());
+        for (Map.Entry<AttributeKey<?>, Object> attribute : span.getAttributes().asMap().entrySet()) {
+            line.append(' ').append(attribute.getKey().getKey()).append('=').append(attribute.getValue());
+        }
+        return line.toString();
+    }
+}
@@ -0,0 +1,32 @@
+package org.mveeprojects.telemetry;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * /actuator/latency - rolling-window p50/p90/p99/p99.9 per upstream service and for Slack posts
+ */
+@Component
+@Endpoint(id = "latency")
+public class LatencyEndpoint {
+
+    private final LatencyRecorder latencyRecorder;
+
+    public LatencyEndpoint(LatencyRecorder latencyRecorder) {
+        this.latencyRecorder = latencyRecorder;
+    }
+
+    @ReadOperation
+    public Map<String, LatencyRecorder.LatencySnapshot> latencies() {
+        return latencyRecorder.snapshot();
+    }
+
+    @ReadOperation
+    public LatencyRecorder.LatencySnapshot latency(@Selector String name) {
+        return latencyRecorder.snapshot(name);
+    }
+}
@@ -0,0 +1,192 @@
+package org.mveeprojects.telemetry;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Rolling-window latency percentiles per upstream service and for pipeline stages such as
+ * Slack posts. Stage names carry {@link #STAGE_PREFIX}, which service names may not start with,
+ * so the two never share a histogram. Recording goes through HdrHistogram's {@link Recorder},
+ * which is wait-free for writers between interval boundaries; the ring of intervals advances as
+ * samples are recorded, and readers merge the last few intervals. A name with nothing left in
+ * its window (e.g. a service a reload removed) is dropped the next time all names are listed
+ * or a new name is recorded.
+ */
+@Component
+public class LatencyRecorder {
+
+    public static final String STAGE_PREFIX = "stage:";
+    public static final String SLACK_POST = STAGE_PREFIX + "slack-post";
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final ConcurrentMap<String, RollingHistogram> histograms = new ConcurrentHashMap<>();
+    private final long intervalNanos;
+    private final int intervals;
+    private final LongSupplier nanoClock;
+
+    public LatencyRecorder() {
+        this(Duration.ofSeconds(10), 6);
+    }
+
+    @Autowired
+    public LatencyRecorder(@Value("${telemetry.latency.interval:10s}") Duration interval,
+                           @Value("${telemetry.latency.intervals:6}") int intervals) {
+        this(interval, intervals, System::nanoTime);
+    }
+
+    LatencyRecorder(Duration interval, int intervals, LongSupplier nanoClock) {
+        this.intervalNanos = interval.toNanos();
+        this.intervals = intervals;
+        this.nanoClock = nanoClock;
+    }
+
+    public void record(String name, long nanos) {
+        long now = nanoClock.getAsLong();
+        RollingHistogram histogram = histograms.get(name);
+        if (histogram == null) {
+            // Only a name not seen before pays for the sweep, so the map stays as small as the names in use
+            evictIdle(now);
+            histogram = histograms.computeIfAbsent(name, key -> new RollingHistogram(intervals, intervalNanos, now));
+        }
+        histogram.record(nanos, now);
+    }
+
+    /**
+     * Percentiles over the rolling window for every name with samples in it, sorted by name
+     */
+    public Map<String, LatencySnapshot> snapshot() {
+        Map<String, LatencySnapshot> snapshots = new TreeMap<>();
+        long now = nanoClock.getAsLong();
+        histograms.forEach((name, histogram) -> {
+            LatencySnapshot snapshot = histogram.snapshot(now);
+            if (snapshot.count() > 0) {
+                snapshots.put(name, snapshot);
+            } else {
+                histograms.remove(name, histogram);
+            }
+        });
+        return snapshots;
+    }
+
+    /**
+     * Drop names idle for a whole window. A sample racing the removal can be lost, which only
+     * happens to a name that had gone quiet for the entire window.
+     */
+    private void evictIdle(long now) {
+        histograms.forEach((name, histogram) -> {
+            if (histogram.snapshot(now).count() == 0) {
+                histograms.remove(name, histogram);
+            }
+        });
+    }
+
+    /**
+     * Percentiles over the rolling window for one name, or null if nothing was recorded
+     */
+    public LatencySnapshot snapshot(String name) {
+        RollingHistogram histogram = histograms.get(name);
+        return histogram != null ? histogram.snapshot(nanoClock.getAsLong()) : null;
+    }
+
+    /**
+     * Latency percentiles in milliseconds
+     */
+    public record LatencySnapshot(long count, double p50, double p90, double p99, double p999,
+                                  double max, double mean, Duration window) {
+
+        static LatencySnapshot of(Histogram histogram, Duration window) {
+            return new LatencySnapshot(
+                histogram.getTotalCount(),
+                millis(histogram.getValueAtPercentile(50.0)),
+                millis(histogram.getValueAtPercentile(90.0)),
+                millis(histogram.getValueAtPercentile(99.0)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()),
+                histogram.getTotalCount() > 0 ? histogram.getMean() / TimeUnit.MILLISECONDS.toNanos(1) : 0,
+                window
+            );
+        }
+
+        private static double millis(long nanos) {
+            return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        }
+    }
+
+    /**
+     * Ring of per-interval histograms. A write that finds its interval over flushes the recorder
+     * into the closing slot and advances the ring, so samples land in the interval they were
+     * recorded in however rarely the percentiles are read.
+     */
+    private static final class RollingHistogram {
+
+        private final Recorder recorder = new Recorder(SIGNIFICANT_DIGITS);
+        private final Histogram[] slots;
+        private final long intervalNanos;
+        private Histogram recycled;
+        private volatile long slotEnd;
+        private int current;
+
+        RollingHistogram(int intervals, long intervalNanos, long now) {
+            this.slots = new Histogram[intervals];
+            for (int i = 0; i < intervals; i++) {
+                slots[i] = new Histogram(SIGNIFICANT_DIGITS);
+            }
+            this.intervalNanos = intervalNanos;
+            this.slotEnd = now + intervalNanos;
+        }
+
+        void record(long nanos, long now) {
+            // One volatile read on the hot path; only the first write of a new interval takes the lock
+            if (now - slotEnd >= 0) {
+                rotate(now);
+            }
+            recorder.recordValue(Math.max(nanos, 0));
+        }
+
+        /**
+         * Close every interval that ended by now: what the recorder holds belongs to the current
+         * slot, and each interval passed since gets an empty slot
+         */
+        private synchronized void rotate(long now) {
+            long overdue = now - slotEnd;
+            if (overdue < 0) {
+                return;
+            }
+            flush();
+            long elapsedSlots = Math.min(overdue / intervalNanos + 1, slots.length);
+            for (long i = 0; i < elapsedSlots; i++) {
+                current = (current + 1) % slots.length;
+                slots[current].reset();
+            }
+            slotEnd = now + intervalNanos - overdue % intervalNanos;
+        }
+
+        private void flush() {
+            recycled = recorder.getIntervalHistogram(recycled);
+            slots[current].add(recycled);
+        }
+
+        synchronized LatencySnapshot snapshot(long now) {
+            rotate(now);
+            flush();
+
+            Histogram merged = new Histogram(SIGNIFICANT_DIGITS);
+            for (Histogram slot : slots) {
+                merged.add(slot);
+            }
+            return LatencySnapshot.of(merged, Duration.ofNanos(intervalNanos * slots.length));
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package org.mveeprojects.telemetry;
+
+import io.micrometer.common.KeyValues;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Single place where the fetch → render → post pipeline records what it did.
+ * Meters are created once per tag combination and cached under a key holding
+ * the tag values, so recording on the hot path is a map lookup plus the meter
+ * update, with no key string built.
+ * Each stage is also wrapped in an {@link Observation}, which the tracing bridge
+ * turns into a span of the current trace.
+ */
+@Component
+public class PipelineTelemetry {
+
+    public static final String SUCCESS = "success";
+    public static final String ERROR = "error";
+
+    private final MeterRegistry meterRegistry;
+    private final LatencyRecorder latencyRecorder;
+    private final ObservationRegistry observationRegistry;
+    private final ConcurrentMap<TagValues, Timer> fetchTimers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<TagValues, Timer> slackPostTimers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<TagValues, Timer> workflowTimers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Counter> retryCounters = new ConcurrentHashMap<>();
+    private final Timer renderTimer;
+    private final DistributionSummary renderBytes;
+
+    public PipelineTelemetry(MeterRegistry meterRegistry) {
+        this(meterRegistry, new LatencyRecorder());
+    }
+
+    public PipelineTelemetry(MeterRegistry meterRegistry, LatencyRecorder latencyRecorder) {
+        this(meterRegistry, latencyRecorder, ObservationRegistry.NOOP);
+    }
+
+    @Autowired
+    public PipelineTelemetry(MeterRegistry meterRegistry, LatencyRecorder latencyRecorder,
+                             ObservationRegistry observationRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.latencyRecorder = latencyRecorder;
+        this.observationRegistry = observationRegistry;
+        this.renderTimer = timer("markdown.render", "JSON to markdown render time");
+        this.renderBytes = DistributionSummary.builder("markdown.render.bytes")
+            .description("Size of rendered markdown")
+            .baseUnit("bytes")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+
+    /**
+     * Telemetry that is recorded but not exported, for components built outside Spring
+     */
+    public static PipelineTelemetry noop() {
+        return new PipelineTelemetry(new SimpleMeterRegistry());
+    }
+
+    public MeterRegistry getMeterRegistry() {
+        return meterRegistry;
+    }
+
+    public LatencyRecorder getLatencyRecorder() {
+        return latencyRecorder;
+    }
+
+    public ObservationRegistry getObservationRegistry() {
+        return observationRegistry;
+    }
+
+    /**
+     * Run a blocking pipeline stage as a span, nested under whichever span is current on this thread
+     */
+    public <T> T observe(String name, KeyValues keyValues, Supplier<T> stage) {
+        return Observation.createNotStarted(name, observationRegistry)
+            .lowCardinalityKeyValues(keyValues)
+            .observe(stage);
+    }
+
+    public void observe(String name, KeyValues keyValues, Runnable stage) {
+        Observation.createNotStarted(name, observationRegistry)
+            .lowCardinalityKeyValues(keyValues)
+            .observe(stage);
+    }
+
+    /**
+     * Run a reactive pipeline stage as a span. The observation is placed in the Reactor
+     * context, so WebClient exchanges made by the stage become its children and carry
+     * the trace headers to the upstream.
+     */
+    public <T> Mono<T> observe(String name, KeyValues keyValues, Mono<T> stage) {
+        if (observationRegistry.isNoop()) {
+            return stage;
+        }
+        return Mono.defer(() -> {
+            Observation observation = Observation.createNotStarted(name, observationRegistry)
+                .lowCardinalityKeyValues(keyValues)
+                .parentObservation(observationRegistry.getCurrentObservation())
+                .start();
+            return stage
+                .doOnError(observation::error)
+                .doFinally(signal -> observation.stop())
+                .contextWrite(context -> context.put(ObservationThreadLocalAccessor.KEY, observation));
+        });
+    }
+
+    public void recordFetch(String service, String outcome, long nanos) {
+        fetchTimers.computeIfAbsent(new TagValues(service, outcome),
+                key -> timer("external.fetch", "Upstream fetch latency including retries",
+                             "service", key.first(), "outcome", key.second()))
+            .record(nanos, TimeUnit.NANOSECONDS);
+        latencyRecorder.record(service, nanos);
+    }
+
+    public void recordRetry(String service) {
+        retryCounters.computeIfAbsent(service, name -> Counter.builder("external.fetch.retries")
+                .description("Upstream fetch retry attempts")
+                .tag("service", name)
+                .register(meterRegistry))
+            .increment();
+    }
+
+    public void recordRender(long nanos, long outputBytes) {
+        renderTimer.record(nanos, TimeUnit.NANOSECONDS);
+        renderBytes.record(outputBytes);
+    }
+
+    /**
+     * Size of the text encoded as UTF-8, as it goes over the wire, without encoding it.
+     * String.length() counts UTF-16 chars, which undercounts anything outside ASCII.
+     */
+    public static long utf8Length(CharSequence text) {
+        if (text == null) {
+            return 0;
+        }
+        long bytes = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                bytes++;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < text.length()
+                       && Character.isLowSurrogate(text.charAt(i + 1))) {
+                bytes += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                // Encoded as '?', like String.getBytes does
+                bytes++;
+            } else {
+                bytes += 3;
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * @param errorCode Slack error code (e.g. "ratelimited"), or "none" on success
+     */
+    public void recordSlackPost(String outcome, String errorCode, long nanos) {
+        slackPostTimers.computeIfAbsent(new TagValues(outcome, errorCode),
+                key -> timer("slack.post", "Slack chat.postMessage latency",
+                             "outcome", key.first(), "error", key.second()))
+            .record(nanos, TimeUnit.NANOSECONDS);
+        latencyRecorder.record(LatencyRecorder.SLACK_POST, nanos);
+    }
+
+    public void recordWorkflow(String operation, String outcome, long nanos) {
+        workflowTimers.computeIfAbsent(new TagValues(operation, outcome),
+                key -> timer("workflow.execution", "End-to-end workflow latency",
+                             "operation", key.first(), "outcome", key.second()))
+            .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer timer(String name, String description, String... tags) {
+        return Timer.builder(name)
+            .description(description)
+            .tags(tags)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+
+    /**
+     * The two tag values of a timer, in the order its name declares its tag keys
+     */
+    private record TagValues(String first, String second) {
+    }
+}
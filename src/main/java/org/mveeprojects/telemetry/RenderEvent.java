@@ -0,0 +1,53 @@
+package org.mveeprojects.telemetry;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one JSON to markdown render, tagged with the service whose response it renders
+ */
+@Name("org.mveeprojects.Render")
+@Label("Markdown Render")
+@Description("Rendering of one JSON payload to markdown")
+@Category({"Slack Bot", "Pipeline"})
+@Enabled(false)
+@StackTrace(false)
+public class RenderEvent extends Event {
+
+    @Label("Service")
+    String service;
+
+    @Label("Payload Bytes")
+    @DataAmount
+    long payloadBytes;
+
+    @Label("Outcome")
+    String outcome;
+
+    /**
+     * @param service the service whose response is rendered, or null when it is not known
+     */
+    public static RenderEvent start(String service) {
+        RenderEvent event = new RenderEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.service = service;
+        event.begin();
+        return event;
+    }
+
+    public static void finish(RenderEvent event, String outcome, long payloadBytes) {
+        if (event != null && event.shouldCommit()) {
+            event.outcome = outcome;
+            event.payloadBytes = payloadBytes;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package org.mveeprojects.telemetry;
+
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Rate-limits repetitive warnings so an error storm (e.g. an upstream going down under load)
+ * logs the first few occurrences per key in each window, then a single count of what was suppressed.
+ * At most {@link #MAX_KEYS} keys are tracked: once full, windows idle for a whole window with nothing
+ * left to report are evicted, and keys that still do not fit share one overflow budget.
+ */
+public class SampledLogger {
+
+    static final int MAX_KEYS = 256;
+    static final String OVERFLOW_KEY = "other";
+
+    private final Logger logger;
+    private final int permitsPerWindow;
+    private final long windowNanos;
+    private final LongSupplier nanoClock;
+    private final ConcurrentMap<String, Window> windows = new ConcurrentHashMap<>();
+
+    public SampledLogger(Logger logger, int permitsPerWindow, Duration window) {
+        this(logger, permitsPerWindow, window, System::nanoTime);
+    }
+
+    SampledLogger(Logger logger, int permitsPerWindow, Duration window, LongSupplier nanoClock) {
+        if (permitsPerWindow < 1) {
+            throw new IllegalArgumentException("permitsPerWindow must be at least 1");
+        }
+        this.logger = logger;
+        this.permitsPerWindow = permitsPerWindow;
+        this.windowNanos = window.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * @param key groups messages that count against the same budget, e.g. service name plus outcome
+     */
+    public void warn(String key, String format, Object... arguments) {
+        if (!logger.isWarnEnabled()) {
+            return;
+        }
+        long suppressed = acquire(key);
+        if (suppressed < 0) {
+            return;
+        }
+        if (suppressed > 0) {
+            logger.warn("Suppressed {} similar messages for {} in the last {}ms",
+                        suppressed, key, windowNanos / 1_000_000);
+        }
+        logger.warn(format, arguments);
+    }
+
+    /**
+     * @return -1 if the message should be dropped, otherwise how many were dropped in the previous window
+     */
+    private long acquire(String key) {
+        long now = nanoClock.getAsLong();
+        Window window = windows.get(key);
+        if (window == null) {
+            window = register(key, now);
+        }
+        if (now - window.start >= windowNanos) {
+            synchronized (window) {
+                if (now - window.start >= windowNanos) {
+                    window.start = now;
+                    window.used.set(0);
+                    window.carriedSuppressed = window.suppressed.getAndSet(0);
+                }
+            }
+        }
+        if (window.used.incrementAndGet() > permitsPerWindow) {
+            window.suppressed.incrementAndGet();
+            return -1;
+        }
+        synchronized (window) {
+            long carried = window.carriedSuppressed;
+            window.carriedSuppressed = 0;
+            return carried;
+        }
+    }
+
+    private Window register(String key, long now) {
+        if (windows.size() >= MAX_KEYS) {
+            windows.values().removeIf(idle -> now - idle.start >= windowNanos
+                && idle.suppressed.get() == 0 && idle.carriedSuppressed == 0);
+            if (windows.size() >= MAX_KEYS) {
+                key = OVERFLOW_KEY;
+            }
+        }
+        return windows.computeIfAbsent(key, ignored -> new Window(now));
+    }
+
+    int trackedKeys() {
+        return windows.size();
+    }
+
+    private static final class Window {
+        volatile long start;
+        final AtomicLong used = new AtomicLong();
+        final AtomicLong suppressed = new AtomicLong();
+        volatile long carriedSuppressed;
+
+        Window(long start) {
+            this.start = start;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package org.mveeprojects.telemetry;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one chat.postMessage call, tagged with the service whose response it posts
+ */
+@Name("org.mveeprojects.SlackPost")
+@Label("Slack Post")
+@Description("One chat.postMessage call to Slack")
+@Category({"Slack Bot", "Pipeline"})
+@Enabled(false)
+@StackTrace(false)
+public class SlackPostEvent extends Event {
+
+    @Label("Service")
+    String service;
+
+    @Label("Channel")
+    String channel;
+
+    @Label("Payload Bytes")
+    @DataAmount
+    long payloadBytes;
+
+    @Label("Outcome")
+    String outcome;
+
+    /**
+     * @param service the service whose response is posted, or null when it is not known
+     */
+    public static SlackPostEvent start(String service, String channel) {
+        SlackPostEvent event = new SlackPostEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.service = service;
+        event.channel = channel;
+        event.begin();
+        return event;
+    }
+
+    public static void finish(SlackPostEvent event, String outcome, long payloadBytes) {
+        if (event != null && event.shouldCommit()) {
+            event.outcome = outcome;
+            event.payloadBytes = payloadBytes;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package org.mveeprojects.telemetry;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one upstream fetch, including retries. Disabled unless a
+ * recording enables it (see jfr/slackbot.jfc).
+ */
+@Name("org.mveeprojects.UpstreamFetch")
+@Label("Upstream Fetch")
+@Description("Fetch of one external service, including retries")
+@Category({"Slack Bot", "Pipeline"})
+@Enabled(false)
+@StackTrace(false)
+public class UpstreamFetchEvent extends Event {
+
+    @Label("Service")
+    String service;
+
+    @Label("Payload Bytes")
+    @DataAmount
+    long payloadBytes;
+
+    @Label("Outcome")
+    String outcome;
+
+    /**
+     * @return a started event, or null when the event is not enabled in any recording
+     */
+    public static UpstreamFetchEvent start(String service) {
+        UpstreamFetchEvent event = new UpstreamFetchEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.service = service;
+        event.begin();
+        return event;
+    }
+
+    public static void finish(UpstreamFetchEvent event, String outcome, long payloadBytes) {
+        if (event != null && event.shouldCommit()) {
+            event.outcome = outcome;
+            event.payloadBytes = payloadBytes;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package org.mveeprojects.telemetry;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning one workflow run, so slow runs can be lined up with GC
+ * pauses and thread parking in the same recording
+ */
+@Name("org.mveeprojects.WorkflowRun")
+@Label("Workflow Run")
+@Description("One end-to-end workflow run: fetch, render and post")
+@Category({"Slack Bot", "Pipeline"})
+@Enabled(false)
+@StackTrace(false)
+public class WorkflowEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Services")
+    String services;
+
+    @Label("Payload Bytes")
+    @DataAmount
+    long payloadBytes;
+
+    @Label("Outcome")
+    String outcome;
+
+    public static WorkflowEvent start(String operation, String services) {
+        WorkflowEvent event = new WorkflowEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.operation = operation;
+        event.services = services;
+        event.begin();
+        return event;
+    }
+
+    public static void finish(WorkflowEvent event, String outcome, long payloadBytes) {
+        if (event != null && event.shouldCommit()) {
+            event.outcome = outcome;
+            event.payloadBytes = payloadBytes;
+            event.commit();
+        }
+    }
+}
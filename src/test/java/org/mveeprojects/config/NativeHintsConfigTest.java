@@ -0,0 +1,51 @@
+package org.mveeprojects.config;
+
+import com.slack.api.methods.request.chat.ChatPostMessageRequest;
+import com.slack.api.methods.response.chat.ChatPostMessageResponse;
+import com.slack.api.model.Message;
+import com.slack.api.model.block.SectionBlock;
+import com.slack.api.model.block.composition.MarkdownTextObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mveeprojects.model.SlackEventEnvelope;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the native-image hints on the JVM, where a missing hint is cheap to catch
+ */
+class NativeHintsConfigTest {
+
+    private RuntimeHints hints;
+
+    @BeforeEach
+    void setUp() {
+        hints = new RuntimeHints();
+        new NativeHintsConfig.SlackSdkHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void testSlackMessageTypesAreReflective() {
+        for (Class<?> type : new Class<?>[] {ChatPostMessageRequest.class, ChatPostMessageResponse.class,
+                Message.class, SectionBlock.class, MarkdownTextObject.class}) {
+            assertTrue(RuntimeHintsPredicates.reflection().onType(type)
+                    .withMemberCategories(MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)
+                    .test(hints),
+                type.getName() + " should be registered for Gson");
+        }
+    }
+
+    @Test
+    void testApplicationModelsAreRegisteredForBinding() {
+        RegisterReflectionForBinding binding = NativeHintsConfig.class.getAnnotation(RegisterReflectionForBinding.class);
+        assertNotNull(binding);
+        assertTrue(List.of(binding.value()).contains(SlackEventEnvelope.class),
+            "SlackEventEnvelope is read with an ObjectReader, outside Spring's request body handling");
+    }
+}
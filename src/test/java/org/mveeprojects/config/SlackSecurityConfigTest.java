@@ -0,0 +1,51 @@
+package org.mveeprojects.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mveeprojects.security.SlackSignatureFilter;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.context.ConfigurationPropertiesAutoConfiguration;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.core.NestedExceptionUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlackSecurityConfigTest {
+
+    private final WebApplicationContextRunner contextRunner = new WebApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(ConfigurationPropertiesAutoConfiguration.class))
+        .withUserConfiguration(SlackProperties.class, SlackSecurityConfig.class)
+        .withBean(MeterRegistry.class, SimpleMeterRegistry::new);
+
+    @Test
+    void testMissingSigningSecretFailsStartup() {
+        contextRunner
+            .withPropertyValues("slack.signing-secret=")
+            .run(context -> {
+                assertNotNull(context.getStartupFailure(), "Startup should fail without a signing secret");
+                Throwable cause = NestedExceptionUtils.getMostSpecificCause(context.getStartupFailure());
+                assertInstanceOf(IllegalStateException.class, cause);
+                assertTrue(cause.getMessage().contains("slack.signature.enabled=false"));
+            });
+    }
+
+    @Test
+    void testVerificationIsOnlyDisabledExplicitly() {
+        contextRunner
+            .withPropertyValues("slack.signature.enabled=false")
+            .run(context -> assertFalse(context.getBean(FilterRegistrationBean.class).isEnabled()));
+    }
+
+    @Test
+    void testSigningSecretEnablesVerification() {
+        contextRunner
+            .withPropertyValues("slack.signing-secret=test-secret")
+            .run(context -> {
+                FilterRegistrationBean<?> registration = context.getBean(FilterRegistrationBean.class);
+                assertTrue(registration.isEnabled());
+                assertInstanceOf(SlackSignatureFilter.class, registration.getFilter());
+            });
+    }
+}
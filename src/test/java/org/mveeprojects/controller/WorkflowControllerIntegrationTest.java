@@ -82,7 +82,7 @@ class WorkflowControllerIntegrationTest {
                         .withBody(externalServiceResponse)));
 
         // Mock Slack service to not actually post to Slack
-        doNothing().when(slackService).postThreadResponse(anyString(), anyString(), anyString());
+        doNothing().when(slackService).postThreadResponse(anyString(), anyString(), anyString(), anyString());
 
         // Prepare request
         String requestBody = """
@@ -119,7 +119,8 @@ class WorkflowControllerIntegrationTest {
                            markdown.contains("• **name:** Item 2") &&
                            markdown.contains("**value:** `200`") &&
                            markdown.contains("**timestamp:** 2025-10-07T10:00:00Z");
-                })
+                }),
+                anyString()
         );
     }
 
@@ -138,7 +139,7 @@ class WorkflowControllerIntegrationTest {
                 .andExpect(jsonPath("$.error").value("Missing required fields: channel and threadTs"));
 
         // Verify no external calls were made
-        verify(slackService, never()).postThreadResponse(anyString(), anyString(), anyString());
+        verify(slackService, never()).postThreadResponse(anyString(), anyString(), anyString(), anyString());
     }
 
     @Test
@@ -149,7 +150,7 @@ class WorkflowControllerIntegrationTest {
                         .withStatus(500)
                         .withBody("Internal Server Error")));
 
-        doNothing().when(slackService).postThreadResponse(anyString(), anyString(), anyString());
+        doNothing().when(slackService).postThreadResponse(anyString(), anyString(), anyString(), anyString());
 
         String requestBody = """
             {
@@ -172,7 +173,8 @@ class WorkflowControllerIntegrationTest {
                 argThat(markdown ->
                     markdown.contains("**error:** `true`") &&
                     markdown.contains("**message:**")
-                )
+                ),
+                anyString()
         );
     }
 
@@ -193,7 +195,7 @@ class WorkflowControllerIntegrationTest {
                         .withBody(externalServiceResponse)));
 
         doThrow(new RuntimeException("Slack API error"))
-                .when(slackService).postThreadResponse(anyString(), anyString(), anyString());
+                .when(slackService).postThreadResponse(anyString(), anyString(), anyString(), anyString());
 
         String requestBody = """
             {
@@ -0,0 +1,229 @@
+package org.mveeprojects.handler;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mveeprojects.config.SlackProperties;
+import org.mveeprojects.model.SlackEvent;
+import org.mveeprojects.model.SlackEventEnvelope;
+import org.mveeprojects.model.SlashCommand;
+import org.mveeprojects.model.SlashCommandResponse;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlackHandlerRegistryTest {
+
+    private final CountDownLatch releaseSlowCommand = new CountDownLatch(1);
+    private final CountDownLatch eventHandled = new CountDownLatch(1);
+
+    private SimpleMeterRegistry meterRegistry;
+    private SlackHandlerRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        registry = new SlackHandlerRegistry(
+            List.of(new TestEventHandler()),
+            List.of(new PingCommandHandler(), new SlowCommandHandler()),
+            new SlackProperties(),
+            meterRegistry
+        );
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        releaseSlowCommand.countDown();
+        registry.shutdown();
+    }
+
+    @Test
+    void testCommandIsDispatchedToHandler() {
+        SlashCommandResponse response = registry.dispatchCommand(command("/ping"));
+
+        assertEquals("in_channel", response.responseType());
+        assertTrue(response.text().contains("Pong"));
+    }
+
+    @Test
+    void testUnknownCommandListsAvailableCommands() {
+        SlashCommandResponse response = registry.dispatchCommand(command("/unknown"));
+
+        assertEquals("ephemeral", response.responseType());
+        assertEquals("Unknown command. Available commands: `/ping`, `/slow`", response.text());
+    }
+
+    @Test
+    void testEventIsDispatchedToHandler() throws InterruptedException {
+        SlackEventEnvelope envelope = new SlackEventEnvelope("event_callback", null, "Ev1", "T1",
+            new SlackEvent("test_event", "C1", "U1", "hi", "1.2", null));
+
+        assertTrue(registry.dispatchEvent(envelope));
+        assertTrue(eventHandled.await(2, TimeUnit.SECONDS));
+        assertFalse(registry.dispatchEvent(new SlackEventEnvelope("event_callback", null, "Ev2", "T1",
+            new SlackEvent("unhandled", "C1", "U1", "hi", "1.2", null))));
+    }
+
+    @Test
+    void testSaturatedCommandDoesNotDelayOtherCommands() throws Exception {
+        ExecutorService callers = Executors.newFixedThreadPool(4);
+        try {
+            // Fill the slow handler's single thread and single queue slot
+            callers.submit(() -> registry.dispatchCommand(command("/slow")));
+            callers.submit(() -> registry.dispatchCommand(command("/slow")));
+            Thread.sleep(100);
+
+            SlashCommandResponse busy = registry.dispatchCommand(command("/slow"));
+            assertTrue(busy.text().contains("busy"), busy.text());
+            assertEquals(1.0, meterRegistry.get("slack.handler.rejected")
+                .tag("handler", "command-slow").counter().count());
+
+            long start = System.nanoTime();
+            SlashCommandResponse pong = registry.dispatchCommand(command("/ping"));
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            assertTrue(pong.text().contains("Pong"));
+            assertTrue(elapsedMillis < 500, "/ping should not wait for /slow: " + elapsedMillis + "ms");
+        } finally {
+            releaseSlowCommand.countDown();
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    void testVirtualThreadModeKeepsLaneLimits() throws Exception {
+        SlackProperties properties = new SlackProperties();
+        properties.getHandlers().setVirtualThreads(true);
+        SlackHandlerRegistry virtualRegistry = new SlackHandlerRegistry(
+            List.of(), List.of(new ThreadReportingCommandHandler(), new SlowCommandHandler()), properties, meterRegistry);
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            String thread = virtualRegistry.dispatchCommand(command("/thread")).text();
+            assertTrue(thread.startsWith("virtual slack-command-thread-"), thread);
+            assertNotEquals(thread, virtualRegistry.dispatchCommand(command("/thread")).text(),
+                "Virtual threads must not be pooled");
+
+            Future<SlashCommandResponse> first = callers.submit(() -> virtualRegistry.dispatchCommand(command("/slow")));
+            Future<SlashCommandResponse> second = callers.submit(() -> virtualRegistry.dispatchCommand(command("/slow")));
+            Thread.sleep(100);
+            assertTrue(virtualRegistry.dispatchCommand(command("/slow")).text().contains("busy"));
+
+            releaseSlowCommand.countDown();
+            first.get(5, TimeUnit.SECONDS);
+            second.get(5, TimeUnit.SECONDS);
+            assertEquals("done", virtualRegistry.dispatchCommand(command("/slow")).text(),
+                "Finished tasks must hand their place in the lane back");
+        } finally {
+            releaseSlowCommand.countDown();
+            callers.shutdownNow();
+            virtualRegistry.shutdown();
+        }
+    }
+
+    @Test
+    void testCancelledVirtualTaskKeepsItsPlaceUntilItStops() throws Exception {
+        HandlerLane lane = new HandlerLane("cancel-test", new HandlerLimits(1, 0), true, meterRegistry);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch stopped = new CountDownLatch(1);
+        try {
+            Future<Void> stubborn = lane.submit(() -> {
+                running.countDown();
+                // Ignores the interrupt, like a handler stuck in a call that cannot be interrupted
+                boolean released = false;
+                while (!released) {
+                    try {
+                        released = releaseSlowCommand.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException ignored) {
+                        // keep waiting
+                    }
+                }
+                stopped.countDown();
+                return null;
+            });
+            assertTrue(running.await(5, TimeUnit.SECONDS));
+
+            stubborn.cancel(true);
+            assertFalse(lane.execute(() -> { }), "The cancelled task is still running and holding the lane");
+
+            releaseSlowCommand.countDown();
+            assertTrue(stopped.await(5, TimeUnit.SECONDS));
+            CountDownLatch ran = new CountDownLatch(1);
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (!lane.execute(ran::countDown)) {
+                assertTrue(System.nanoTime() < deadline, "The lane never took work again");
+                Thread.sleep(10);
+            }
+            assertTrue(ran.await(5, TimeUnit.SECONDS));
+        } finally {
+            lane.shutdown();
+        }
+    }
+
+    @Test
+    void testDuplicateRegistrationFails() {
+        assertThrows(IllegalStateException.class, () -> new SlackHandlerRegistry(
+            List.of(),
+            List.of(new PingCommandHandler(), new PingCommandHandler()),
+            new SlackProperties(),
+            meterRegistry
+        ));
+    }
+
+    private static SlashCommand command(String name) {
+        return new SlashCommand(name, "", "U123", "C123", null, null);
+    }
+
+    private class TestEventHandler implements SlackEventHandler {
+        @Override
+        public String eventType() {
+            return "test_event";
+        }
+
+        @Override
+        public void handle(SlackEventEnvelope envelope) {
+            eventHandled.countDown();
+        }
+    }
+
+    private static class ThreadReportingCommandHandler implements SlashCommandHandler {
+        @Override
+        public String command() {
+            return "/thread";
+        }
+
+        @Override
+        public SlashCommandResponse handle(SlashCommand command) {
+            Thread current = Thread.currentThread();
+            return SlashCommandResponse.ephemeral((current.isVirtual() ? "virtual " : "platform ") + current.getName());
+        }
+    }
+
+    private class SlowCommandHandler implements SlashCommandHandler {
+        @Override
+        public String command() {
+            return "/slow";
+        }
+
+        @Override
+        public SlashCommandResponse handle(SlashCommand command) {
+            try {
+                releaseSlowCommand.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return SlashCommandResponse.ephemeral("done");
+        }
+
+        @Override
+        public HandlerLimits limits() {
+            return new HandlerLimits(1, 1);
+        }
+    }
+}
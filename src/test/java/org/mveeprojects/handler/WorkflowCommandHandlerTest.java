@@ -0,0 +1,113 @@
+package org.mveeprojects.handler;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mveeprojects.config.SlackProperties;
+import org.mveeprojects.model.SlashCommand;
+import org.mveeprojects.model.SlashCommandResponse;
+import org.mveeprojects.service.ResponseUrlClient;
+import org.mveeprojects.service.SlackWorkflowService;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WorkflowCommandHandlerTest {
+
+    private static final String RESPONSE_URL = "https://hooks.slack.com/commands/T1/123/abc";
+
+    @Mock
+    private SlackWorkflowService slackWorkflowService;
+
+    @Mock
+    private ResponseUrlClient responseUrlClient;
+
+    private WorkflowCommandHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new WorkflowCommandHandler(slackWorkflowService, responseUrlClient,
+            new SlackProperties(), new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        handler.shutdown();
+    }
+
+    @Test
+    void testWithoutArgumentsShowsUsage() {
+        SlashCommandResponse response = handler.handle(command(""));
+
+        assertEquals("ephemeral", response.responseType());
+        assertTrue(response.text().contains("/workflow run"));
+        verifyNoInteractions(slackWorkflowService);
+    }
+
+    @Test
+    void testRunAcknowledgesAndPostsResultsToResponseUrl() {
+        when(responseUrlClient.isAllowed(RESPONSE_URL)).thenReturn(true);
+        when(slackWorkflowService.renderWorkflow("primary-api", "secondary-api"))
+            .thenReturn(List.of("**Primary Response:**", "**Secondary Response:**"));
+
+        SlashCommandResponse ack = handler.handle(command("run primary-api secondary-api"));
+
+        assertEquals("ephemeral", ack.responseType());
+        assertTrue(ack.text().contains("primary-api, secondary-api"));
+
+        ArgumentCaptor<SlashCommandResponse> delivered = ArgumentCaptor.forClass(SlashCommandResponse.class);
+        verify(responseUrlClient, timeout(2000)).send(eq(RESPONSE_URL), delivered.capture());
+        assertEquals("in_channel", delivered.getValue().responseType());
+        assertEquals("**Primary Response:**\n\n**Secondary Response:**", delivered.getValue().text());
+    }
+
+    @Test
+    void testRunWithoutServicesRunsAllServices() {
+        when(responseUrlClient.isAllowed(RESPONSE_URL)).thenReturn(true);
+        when(slackWorkflowService.renderWorkflow()).thenReturn(List.of("**All Response:**"));
+
+        SlashCommandResponse ack = handler.handle(command("run"));
+
+        assertTrue(ack.text().contains("all configured services"));
+        verify(responseUrlClient, timeout(2000)).send(eq(RESPONSE_URL), any(SlashCommandResponse.class));
+    }
+
+    @Test
+    void testWorkflowFailureIsReportedToResponseUrlWithoutItsCause() {
+        when(responseUrlClient.isAllowed(RESPONSE_URL)).thenReturn(true);
+        when(slackWorkflowService.renderWorkflow("primary-api"))
+            .thenThrow(new RuntimeException("Connection refused: internal-api.corp:8443"));
+
+        handler.handle(command("run primary-api"));
+
+        ArgumentCaptor<SlashCommandResponse> delivered = ArgumentCaptor.forClass(SlashCommandResponse.class);
+        verify(responseUrlClient, timeout(2000)).send(eq(RESPONSE_URL), delivered.capture());
+        assertEquals("ephemeral", delivered.getValue().responseType());
+        assertTrue(delivered.getValue().text().contains("workflow failed"));
+        assertFalse(delivered.getValue().text().contains("internal-api"));
+    }
+
+    @Test
+    void testInvalidResponseUrlIsRejected() {
+        when(responseUrlClient.isAllowed(anyString())).thenReturn(false);
+
+        SlashCommandResponse response = handler.handle(
+            new SlashCommand("/workflow", "run", "U1", "C1", "http://attacker.example/", null));
+
+        assertTrue(response.text().contains("valid response URL"));
+        verifyNoInteractions(slackWorkflowService);
+    }
+
+    private static SlashCommand command(String text) {
+        return new SlashCommand("/workflow", text, "U1", "C1", RESPONSE_URL, null);
+    }
+}
@@ -0,0 +1,157 @@
+package org.mveeprojects.performance;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.matching.RequestPatternBuilder;
+import com.slack.api.Slack;
+import com.slack.api.methods.MethodsClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mveeprojects.config.ExternalServiceConfig;
+import org.mveeprojects.config.SlackProperties;
+import org.mveeprojects.handler.AppMentionHandler;
+import org.mveeprojects.handler.SlackHandlerRegistry;
+import org.mveeprojects.handler.WorkflowCommandHandler;
+import org.mveeprojects.model.SlackEvent;
+import org.mveeprojects.model.SlackEventEnvelope;
+import org.mveeprojects.model.SlashCommand;
+import org.mveeprojects.service.ExternalServiceClient;
+import org.mveeprojects.service.MarkdownRenderer;
+import org.mveeprojects.service.ResponseUrlClient;
+import org.mveeprojects.service.SlackService;
+import org.mveeprojects.service.SlackWorkflowService;
+import org.mveeprojects.telemetry.PipelineTelemetry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Sends app mentions and /workflow run commands through the handler lanes on virtual threads, with
+ * the real Slack client and the upstream both served by WireMock, while JFR watches for
+ * jdk.VirtualThreadPinned, which fires when a virtual thread blocks while holding a monitor and so
+ * ties up its carrier thread
+ */
+class VirtualThreadPinningTest {
+
+    private static final int MENTIONS = 50;
+    private static final int WORKFLOW_RUNS = 50;
+
+    private WireMockServer wireMockServer;
+    private WorkflowCommandHandler workflowCommandHandler;
+    private SlackHandlerRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        wireMockServer = new WireMockServer(wireMockConfig().dynamicPort());
+        wireMockServer.start();
+        wireMockServer.stubFor(get(urlEqualTo("/api/data"))
+            .willReturn(aResponse()
+                .withHeader("Content-Type", "application/json")
+                .withBody("{\"status\":\"ok\",\"items\":[1,2,3]}")
+                .withFixedDelay(20)));
+        wireMockServer.stubFor(post(urlEqualTo("/slack/api/chat.postMessage"))
+            .willReturn(aResponse()
+                .withHeader("Content-Type", "application/json")
+                .withBody("{\"ok\":true,\"channel\":\"C123\",\"ts\":\"1234567890.654321\"}")
+                .withFixedDelay(10)));
+        wireMockServer.stubFor(post(urlEqualTo("/commands/response"))
+            .willReturn(aResponse().withStatus(200)));
+
+        ExternalServiceConfig config = new ExternalServiceConfig();
+        ExternalServiceConfig.ServiceDefinition service = new ExternalServiceConfig.ServiceDefinition();
+        service.setName("pinning-test-service");
+        service.setUrl(wireMockServer.baseUrl() + "/api/data");
+        service.setDisplayName("Pinning Test Service");
+        service.setTimeout(5000);
+        service.setRetryAttempts(0);
+        service.setHeaders(Map.of("Content-Type", "application/json"));
+        config.setServices(List.of(service));
+
+        SlackProperties properties = new SlackProperties();
+        properties.getHandlers().setVirtualThreads(true);
+        properties.getCommands().setResponseUrlPrefix(wireMockServer.baseUrl() + "/commands/");
+        properties.getCommands().setWorkflowConcurrency(8);
+        properties.getCommands().setWorkflowQueueCapacity(WORKFLOW_RUNS);
+
+        MethodsClient methodsClient = Slack.getInstance().methods("xoxb-pinning");
+        methodsClient.setEndpointUrlPrefix(wireMockServer.baseUrl() + "/slack/api/");
+
+        PipelineTelemetry telemetry = PipelineTelemetry.noop();
+        SlackService slackService = new SlackService(methodsClient, telemetry);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        workflowCommandHandler = new WorkflowCommandHandler(
+            new SlackWorkflowService(new ExternalServiceClient(config, telemetry),
+                new MarkdownRenderer(telemetry), slackService, telemetry),
+            new ResponseUrlClient(properties), properties, meterRegistry);
+        registry = new SlackHandlerRegistry(
+            List.of(new AppMentionHandler(slackService)), List.of(workflowCommandHandler), properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        registry.shutdown();
+        workflowCommandHandler.shutdown();
+        wireMockServer.stop();
+    }
+
+    @Test
+    void testHandlerLanesDoNotPinCarrierThreads() throws Exception {
+        List<RecordedEvent> pinned = new CopyOnWriteArrayList<>();
+
+        try (RecordingStream recording = new RecordingStream()) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            recording.onEvent("jdk.VirtualThreadPinned", pinned::add);
+            recording.startAsync();
+
+            for (int i = 0; i < MENTIONS; i++) {
+                SlackEvent mention = new SlackEvent("app_mention", "C123", "U123", "<@bot> help", "1234567890." + i, null);
+                assertTrue(registry.dispatchEvent(new SlackEventEnvelope("event_callback", null, "Ev" + i, "T1", mention)));
+            }
+            for (int i = 0; i < WORKFLOW_RUNS; i++) {
+                SlashCommand run = new SlashCommand("/workflow", "run", "U123", "C123",
+                    wireMockServer.baseUrl() + "/commands/response", "trigger-" + i);
+                assertTrue(registry.dispatchCommand(run).text().startsWith("⏳"));
+            }
+
+            awaitRequests(postRequestedFor(urlEqualTo("/slack/api/chat.postMessage")), MENTIONS);
+            awaitRequests(postRequestedFor(urlEqualTo("/commands/response")), WORKFLOW_RUNS);
+
+            recording.stop();
+        }
+
+        List<String> ourPins = pinned.stream()
+            .filter(VirtualThreadPinningTest::pinnedInApplicationCode)
+            .map(event -> event.getStackTrace().getFrames().stream()
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName())
+                .collect(Collectors.joining("\n  ")))
+            .toList();
+        assertTrue(ourPins.isEmpty(), "Virtual threads were pinned in application code:\n  " + String.join("\n\n  ", ourPins));
+    }
+
+    private void awaitRequests(RequestPatternBuilder request, int expected)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        while (wireMockServer.countRequestsMatching(request.build()).getCount() < expected) {
+            assertTrue(System.nanoTime() < deadline, "Timed out waiting for " + expected + " requests");
+            Thread.sleep(50);
+        }
+    }
+
+    private static boolean pinnedInApplicationCode(RecordedEvent event) {
+        return event.getStackTrace() != null && event.getStackTrace().getFrames().stream()
+            .map(RecordedFrame::getMethod)
+            .map(method -> method.getType().getName())
+            .anyMatch(type -> type.startsWith("org.mveeprojects.") && !type.startsWith(VirtualThreadPinningTest.class.getName()));
+    }
+}
@@ -5,15 +5,20 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @SpringBootTest
 @AutoConfigureWebMvc
+@TestPropertySource(properties = {
+    "slack.signing-secret=test-secret"
+})
 class SecurityValidationTest {
 
     @Autowired
@@ -26,6 +31,14 @@ class SecurityValidationTest {
         mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
     }
 
+    @Test
+    void testServiceRegistryEndpointIsNotExposedByDefault() throws Exception {
+        mockMvc.perform(get("/actuator/services"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(post("/actuator/services"))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     void testSQLInjectionAttempt() throws Exception {
         String maliciousPayload = """
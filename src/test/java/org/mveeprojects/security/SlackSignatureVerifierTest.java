@@ -0,0 +1,70 @@
+package org.mveeprojects.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mveeprojects.service.InMemorySlackEventDeduplicator;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlackSignatureVerifierTest {
+
+    private static final String SECRET = "8f742231b10e8888abcd99yyyzzz85a5";
+    private static final byte[] BODY = "token=xyzz0WbapA4vBCDEFasx0q6G&team_id=T1DC2JH3J&command=%2Fping"
+        .getBytes(StandardCharsets.UTF_8);
+
+    private AtomicLong clock;
+    private SlackSignatureVerifier verifier;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(1_531_420_618L);
+        verifier = new SlackSignatureVerifier(SECRET, Duration.ofMinutes(5),
+            new InMemorySlackEventDeduplicator(Duration.ofMinutes(10), 100), clock::get);
+    }
+
+    @Test
+    void testValidSignatureIsAccepted() {
+        String signature = new String(verifier.sign("1531420618", BODY), StandardCharsets.US_ASCII);
+
+        assertTrue(signature.startsWith("v0="));
+        assertEquals(SlackSignatureVerifier.Result.VALID, verifier.verify("1531420618", signature, BODY));
+    }
+
+    @Test
+    void testTamperedBodyIsRejected() {
+        String signature = new String(verifier.sign("1531420618", BODY), StandardCharsets.US_ASCII);
+        byte[] tampered = "command=%2Fworkflow".getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(SlackSignatureVerifier.Result.INVALID_SIGNATURE,
+            verifier.verify("1531420618", signature, tampered));
+    }
+
+    @Test
+    void testStaleTimestampIsRejected() {
+        String signature = new String(verifier.sign("1531420618", BODY), StandardCharsets.US_ASCII);
+        clock.addAndGet(Duration.ofMinutes(6).toSeconds());
+
+        assertEquals(SlackSignatureVerifier.Result.STALE_TIMESTAMP,
+            verifier.verify("1531420618", signature, BODY));
+        assertEquals(SlackSignatureVerifier.Result.STALE_TIMESTAMP,
+            verifier.verify("not-a-number", signature, BODY));
+    }
+
+    @Test
+    void testMissingHeadersAreRejected() {
+        assertEquals(SlackSignatureVerifier.Result.MISSING_HEADERS, verifier.verify(null, "v0=abc", BODY));
+        assertEquals(SlackSignatureVerifier.Result.MISSING_HEADERS, verifier.verify("1531420618", null, BODY));
+    }
+
+    @Test
+    void testReplayedSignatureIsRejected() {
+        String signature = new String(verifier.sign("1531420618", BODY), StandardCharsets.US_ASCII);
+
+        assertEquals(SlackSignatureVerifier.Result.VALID, verifier.verify("1531420618", signature, BODY));
+        assertEquals(SlackSignatureVerifier.Result.REPLAYED, verifier.verify("1531420618", signature, BODY));
+    }
+}
@@ -0,0 +1,61 @@
+package org.mveeprojects.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AimdLimitTest {
+
+    private static final long FAST = Duration.ofMillis(50).toNanos();
+    private static final long SLOW = Duration.ofMillis(500).toNanos();
+
+    private final AimdLimit limit = new AimdLimit(10, 2, 20, 0.5, Duration.ofMillis(200));
+
+    @Test
+    void testHealthyFetchesRaiseTheLimitWhileItIsUsed() {
+        assertEquals(11, limit.onSample(FAST, 5, false));
+        assertEquals(12, limit.onSample(FAST, 6, false));
+    }
+
+    @Test
+    void testMostlyIdleLimitDoesNotGrow() {
+        assertEquals(10, limit.onSample(FAST, 1, false));
+    }
+
+    @Test
+    void testSlowOrFailedFetchesCutTheLimit() {
+        assertEquals(5, limit.onSample(SLOW, 5, false));
+        assertEquals(2, limit.onSample(FAST, 5, true));
+        assertEquals(2, limit.onSample(FAST, 5, true), "Never below the minimum");
+    }
+
+    @Test
+    void testLimitStaysWithinBounds() {
+        AimdLimit nearCeiling = new AimdLimit(50, 1, 20, 0.9, Duration.ofMillis(200));
+        assertEquals(20, nearCeiling.get(), "The initial limit is capped at the ceiling");
+        assertEquals(20, nearCeiling.onSample(FAST, 20, false));
+
+        AimdLimit small = new AimdLimit(3, 1, 20, 0.9, Duration.ofMillis(200));
+        assertEquals(2, small.onSample(SLOW, 1, false), "A decrease always lowers a small limit by at least one");
+    }
+
+    @Test
+    void testConcurrentSamplesAreAllApplied() throws Exception {
+        AimdLimit shared = new AimdLimit(1, 1, 1000, 0.9, Duration.ofMillis(200));
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 100; i++) {
+                    shared.onSample(FAST, 1000, false);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(401, shared.get(), "No increase may be lost to a race");
+    }
+}
@@ -7,19 +7,45 @@ import com.github.tomakehurst.wiremock.client.WireMock;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.mveeprojects.config.ExternalServiceConfig;
+import org.mveeprojects.telemetry.PipelineTelemetry;
+import org.mveeprojects.telemetry.UpstreamFetchEvent;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Flux;
 import reactor.test.StepVerifier;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ExternalServiceClientTest {
 
     private ExternalServiceClient externalServiceClient;
     private WireMockServer wireMockServer;
     private ObjectMapper objectMapper;
+    private ExternalServiceConfig mockConfig;
 
     @BeforeEach
     void setUp() {
@@ -29,7 +55,15 @@ class ExternalServiceClientTest {
         WireMock.configureFor("localhost", 8089);
 
         // Create mock ExternalServiceConfig
-        ExternalServiceConfig mockConfig = new ExternalServiceConfig();
+        mockConfig = new ExternalServiceConfig();
+        mockConfig.setServices(List.of(testServiceDefinition()));
+
+        // Create ExternalServiceClient with mock config
+        externalServiceClient = new ExternalServiceClient(mockConfig);
+        objectMapper = new ObjectMapper();
+    }
+
+    private static ExternalServiceConfig.ServiceDefinition testServiceDefinition() {
         ExternalServiceConfig.ServiceDefinition testService = new ExternalServiceConfig.ServiceDefinition();
         testService.setName("test-service");
         testService.setUrl("http://localhost:8089/api/data");
@@ -37,12 +71,7 @@ class ExternalServiceClientTest {
         testService.setTimeout(5000);
         testService.setRetryAttempts(1);
         testService.setHeaders(Map.of("Content-Type", "application/json"));
-
-        mockConfig.setServices(List.of(testService));
-
-        // Create ExternalServiceClient with mock config
-        externalServiceClient = new ExternalServiceClient(mockConfig);
-        objectMapper = new ObjectMapper();
+        return testService;
     }
 
     @AfterEach
@@ -165,4 +194,329 @@ class ExternalServiceClientTest {
         assert services.getFirst().getDisplayName().equals("Test Service");
         assert services.getFirst().getUrl().equals("http://localhost:8089/api/data");
     }
+
+    @Test
+    void testFetchMetricsAreRecordedByOutcome() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ExternalServiceClient instrumentedClient =
+            new ExternalServiceClient(mockConfig, new PipelineTelemetry(meterRegistry));
+
+        stubFor(get(urlEqualTo("/api/data"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"status\":\"success\"}")));
+        instrumentedClient.fetchFromService("test-service").block();
+
+        stubFor(get(urlEqualTo("/api/data"))
+                .willReturn(aResponse()
+                        .withStatus(503)
+                        .withBody("Service Unavailable")));
+        instrumentedClient.fetchFromService("test-service").block();
+
+        assertEquals(1, meterRegistry.get("external.fetch")
+                .tags("service", "test-service", "outcome", "success").timer().count());
+        assertEquals(1, meterRegistry.get("external.fetch")
+                .tags("service", "test-service", "outcome", "http_503").timer().count());
+        assertEquals(1.0, meterRegistry.get("external.fetch.retries")
+                .tag("service", "test-service").counter().count());
+    }
+
+    @Test
+    void testSlowServiceIsIsolatedByItsBulkhead() throws Exception {
+        ExternalServiceConfig.ServiceDefinition slowService = new ExternalServiceConfig.ServiceDefinition();
+        slowService.setName("slow-service");
+        slowService.setUrl("http://localhost:8089/api/slow");
+        slowService.setDisplayName("Slow Service");
+        slowService.setRetryAttempts(1);
+        slowService.getBulkhead().setMaxInFlight(1);
+        slowService.getBulkhead().setQueueCapacity(1);
+        mockConfig.setServices(List.of(mockConfig.getServices().getFirst(), slowService));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ExternalServiceClient isolatedClient =
+            new ExternalServiceClient(mockConfig, new PipelineTelemetry(meterRegistry));
+
+        stubFor(get(urlEqualTo("/api/slow"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"status\":\"slow\"}")
+                        .withFixedDelay(1000)));
+        stubFor(get(urlEqualTo("/api/data"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"status\":\"success\"}")));
+
+        // One in flight, one queued, one rejected straight away
+        CompletableFuture<List<JsonNode>> slowResponses = Flux.range(0, 3)
+                .flatMap(i -> isolatedClient.fetchFromService("slow-service"))
+                .collectList()
+                .toFuture();
+
+        long start = System.nanoTime();
+        JsonNode fastResponse = isolatedClient.fetchFromService("test-service").block(Duration.ofSeconds(5));
+        assertNotNull(fastResponse);
+        assertEquals("success", fastResponse.path("status").asText());
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 800,
+            "The healthy service should not wait behind the slow one");
+
+        List<JsonNode> responses = slowResponses.get(10, TimeUnit.SECONDS);
+        assertEquals(2, responses.stream().filter(response -> "slow".equals(response.path("status").asText())).count());
+        List<JsonNode> rejected = responses.stream().filter(response -> response.path("error").asBoolean()).toList();
+        assertEquals(1, rejected.size());
+        assertTrue(rejected.getFirst().path("message").asText().startsWith("Failed to fetch from Slow Service: Too many concurrent requests"));
+
+        assertEquals(1.0, meterRegistry.get("external.fetch.rejected")
+                .tag("service", "slow-service").counter().count());
+        assertEquals(1, meterRegistry.get("external.fetch")
+                .tags("service", "slow-service", "outcome", "rejected").timer().count());
+        assertEquals(0, meterRegistry.find("external.fetch.retries").tag("service", "slow-service").counters().size(),
+            "Rejections are not retried");
+        wireMockServer.verify(2, getRequestedFor(urlEqualTo("/api/slow")));
+    }
+
+    @Test
+    void testConcurrencyLimitFallsWhenLatencyRises() {
+        ExternalServiceConfig.ServiceDefinition testService = testServiceDefinition();
+        testService.setRetryAttempts(0);
+        testService.getBulkhead().getAdaptive().setEnabled(true);
+        testService.getBulkhead().getAdaptive().setInitialLimit(10);
+        testService.getBulkhead().getAdaptive().setLatencyThreshold(Duration.ofMillis(100));
+        mockConfig.setServices(List.of(testService));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ExternalServiceClient adaptiveClient =
+            new ExternalServiceClient(mockConfig, new PipelineTelemetry(meterRegistry));
+        var limit = meterRegistry.get("external.fetch.concurrency.limit").tag("service", "test-service").gauge();
+        assertEquals(10.0, limit.value());
+
+        stubFor(get(urlEqualTo("/api/data"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"status\":\"success\"}")
+                        .withFixedDelay(200)));
+        for (int i = 0; i < 3; i++) {
+            adaptiveClient.fetchFromService("test-service").block();
+        }
+
+        assertEquals(7.0, limit.value(), "Each slow fetch cuts the limit");
+        assertEquals(3.0, meterRegistry.get("external.fetch.concurrency.limit.changes")
+                .tags("service", "test-service", "direction", "decrease").counter().count());
+        adaptiveClient.shutdown();
+    }
+
+    @Test
+    void testConcurrencyLimitIsFixedUnlessAdaptiveIsEnabled() {
+        ExternalServiceConfig.ServiceDefinition fixed = testServiceDefinition();
+        ExternalServiceConfig.ServiceDefinition adaptive = testServiceDefinition();
+        adaptive.setName("adaptive-service");
+        adaptive.getBulkhead().getAdaptive().setEnabled(true);
+        mockConfig.setServices(List.of(fixed, adaptive));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ExternalServiceClient client = new ExternalServiceClient(mockConfig, new PipelineTelemetry(meterRegistry));
+
+        int maxInFlight = fixed.getBulkhead().getMaxInFlight();
+        assertEquals(maxInFlight, meterRegistry.get("external.fetch.concurrency.limit")
+                .tag("service", "test-service").gauge().value());
+        assertEquals(maxInFlight, meterRegistry.get("external.fetch.concurrency.limit")
+                .tag("service", "adaptive-service").gauge().value(), "An adaptive limit starts at max-in-flight");
+        client.shutdown();
+    }
+
+    @Test
+    void testNotModifiedReusesCachedResponseAndMarkdown() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ExternalServiceClient revalidatingClient =
+            new ExternalServiceClient(mockConfig, new PipelineTelemetry(meterRegistry));
+
+        stubFor(get(urlEqualTo("/api/data"))
+                .atPriority(5)
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withHeader("ETag", "\"v1\"")
+                        .withBody("{\"status\":\"success\",\"version\":1}")));
+        stubFor(get(urlEqualTo("/api/data"))
+                .atPriority(1)
+                .withHeader("If-None-Match", equalTo("\"v1\""))
+                .willReturn(aResponse().withStatus(304).withHeader("ETag", "\"v1\"")));
+
+        JsonNode first = revalidatingClient.fetchFromService("test-service").block();
+        JsonNode second = revalidatingClient.fetchFromService("test-service").block();
+
+        assertNotNull(first);
+        assertSame(first, second, "A 304 should hand back the cached body without parsing");
+        wireMockServer.verify(1, getRequestedFor(urlEqualTo("/api/data")).withoutHeader("If-None-Match"));
+        wireMockServer.verify(1, getRequestedFor(urlEqualTo("/api/data")).withHeader("If-None-Match", equalTo("\"v1\"")));
+        assertEquals(1, meterRegistry.get("external.fetch")
+                .tags("service", "test-service", "outcome", "not_modified").timer().count());
+
+        ServiceRegistry.Entry service = revalidatingClient.getServiceRegistry().get("test-service");
+        AtomicInteger renders = new AtomicInteger();
+        Function<JsonNode, String> renderer = body -> "rendered " + renders.incrementAndGet();
+        assertEquals("rendered 1", revalidatingClient.renderedMarkdown(service, first, renderer));
+        assertEquals("rendered 1", revalidatingClient.renderedMarkdown(service, second, renderer),
+            "The markdown of a revalidated body is rendered once");
+        assertEquals("rendered 2", revalidatingClient.renderedMarkdown(service, objectMapper.createObjectNode(), renderer),
+            "Other bodies are rendered as usual");
+        revalidatingClient.shutdown();
+    }
+
+    @Test
+    void testLastModifiedIsRevalidatedAndChangesReplaceTheCache() {
+        stubFor(get(urlEqualTo("/api/data"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withHeader("Last-Modified", "Tue, 07 Oct 2025 10:00:00 GMT")
+                        .withBody("{\"version\":1}")));
+        JsonNode first = externalServiceClient.fetchFromService("test-service").block();
+
+        stubFor(get(urlEqualTo("/api/data"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"version\":2}")));
+        JsonNode changed = externalServiceClient.fetchFromService("test-service").block();
+        JsonNode unconditional = externalServiceClient.fetchFromService("test-service").block();
+
+        assertNotNull(first);
+        assertNotNull(changed);
+        assertEquals(2, changed.path("version").asInt());
+        assertNotSame(changed, unconditional);
+        wireMockServer.verify(1, getRequestedFor(urlEqualTo("/api/data"))
+                .withHeader("If-Modified-Since", equalTo("Tue, 07 Oct 2025 10:00:00 GMT")));
+        wireMockServer.verify(2, getRequestedFor(urlEqualTo("/api/data")).withoutHeader("If-Modified-Since"));
+    }
+
+    @Test
+    void testCompressedResponseIsNegotiatedAndInflated() throws Exception {
+        ExternalServiceConfig.ServiceDefinition testService = testServiceDefinition();
+        testService.getCompression().setEnabled(true);
+        mockConfig.setServices(List.of(testService));
+        ExternalServiceClient compressingClient = new ExternalServiceClient(mockConfig);
+
+        StringBuilder items = new StringBuilder();
+        for (int i = 0; i < 500; i++) {
+            items.append(i > 0 ? "," : "").append("{\"id\":").append(i).append(",\"name\":\"Item ").append(i).append("\"}");
+        }
+        String json = "{\"status\":\"success\",\"items\":[" + items + "]}";
+        stubFor(get(urlEqualTo("/api/data"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withHeader("Content-Encoding", "gzip")
+                        .withBody(gzip(json))));
+
+        Path dump = Files.createTempFile("upstream-fetch", ".jfr");
+        JsonNode response;
+        try (Recording recording = new Recording()) {
+            recording.enable(UpstreamFetchEvent.class);
+            recording.start();
+            response = compressingClient.fetchFromService("test-service").block();
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        assertNotNull(response);
+        assertEquals(objectMapper.readTree(json), response);
+        wireMockServer.verify(getRequestedFor(urlEqualTo("/api/data"))
+                .withHeader("Accept-Encoding", equalTo("gzip, deflate")));
+        RecordedEvent fetch = RecordingFile.readAllEvents(dump).stream()
+                .filter(event -> event.getEventType().getName().equals("org.mveeprojects.UpstreamFetch"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(json.length(), fetch.getLong("payloadBytes"), "The inflated size, not Content-Length");
+        Files.delete(dump);
+        compressingClient.shutdown();
+    }
+
+    @Test
+    void testDecompressionBombIsStoppedAtTheSizeLimit() throws Exception {
+        ExternalServiceConfig.ServiceDefinition testService = testServiceDefinition();
+        testService.setRetryAttempts(0);
+        testService.getCompression().setEnabled(true);
+        testService.getCompression().setMaxDecompressedSize(DataSize.ofKilobytes(64));
+        mockConfig.setServices(List.of(testService));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ExternalServiceClient compressingClient =
+            new ExternalServiceClient(mockConfig, new PipelineTelemetry(meterRegistry));
+
+        // A few kilobytes on the wire, 8 MB once inflated
+        byte[] bomb = gzip("{\"data\":\"" + "0".repeat(8 * 1024 * 1024) + "\"}");
+        assertTrue(bomb.length < 64 * 1024);
+        stubFor(get(urlEqualTo("/api/data"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withHeader("Content-Encoding", "gzip")
+                        .withBody(bomb)));
+
+        JsonNode response = compressingClient.fetchFromService("test-service").block();
+
+        assertNotNull(response);
+        assertTrue(response.path("error").asBoolean());
+        assertTrue(response.path("message").asText().contains("exceeds the limit of 65536 bytes"));
+        assertEquals(1, meterRegistry.get("external.fetch")
+                .tags("service", "test-service", "outcome", "too_large").timer().count());
+        compressingClient.shutdown();
+    }
+
+    @Test
+    void testUncompressedServicesDoNotAskForCompression() {
+        stubFor(get(urlEqualTo("/api/data"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"status\":\"success\"}")));
+
+        externalServiceClient.fetchFromService("test-service").block();
+
+        wireMockServer.verify(getRequestedFor(urlEqualTo("/api/data")).withoutHeader("Accept-Encoding"));
+    }
+
+    private static byte[] gzip(String text) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(text.getBytes(StandardCharsets.UTF_8));
+        }
+        return compressed.toByteArray();
+    }
+
+    @Test
+    void testReloadKeepsBulkheadsOfUnchangedServices() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ExternalServiceClient reloadingClient =
+            new ExternalServiceClient(mockConfig, new PipelineTelemetry(meterRegistry));
+        var inFlight = meterRegistry.get("external.fetch.in.flight").tag("service", "test-service").gauge();
+
+        reloadingClient.reloadServices(List.of(testServiceDefinition()));
+        assertTrue(meterRegistry.getMeters().contains(inFlight), "An unchanged service keeps its bulkhead");
+
+        ExternalServiceConfig.ServiceDefinition resized = testServiceDefinition();
+        resized.getBulkhead().setMaxInFlight(5);
+        reloadingClient.reloadServices(List.of(resized));
+        assertFalse(meterRegistry.getMeters().contains(inFlight), "A changed service gets a new bulkhead");
+        assertNotNull(meterRegistry.find("external.fetch.in.flight").tag("service", "test-service").gauge());
+
+        reloadingClient.shutdown();
+    }
+
+    @Test
+    void testServiceStateSurvivesAnInPlaceEditOfTheDefinition() {
+        stubFor(get(urlEqualTo("/api/data"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withHeader("ETag", "\"v1\"")
+                        .withBody("{\"version\":1}")));
+        externalServiceClient.fetchFromService("test-service").block();
+
+        // The entry's hashCode changes with its definition; state is held per entry instance regardless
+        externalServiceClient.getServiceRegistry().get("test-service").definition().setDisplayName("Renamed");
+        externalServiceClient.fetchFromService("test-service").block();
+
+        wireMockServer.verify(getRequestedFor(urlEqualTo("/api/data")).withHeader("If-None-Match", equalTo("\"v1\"")));
+    }
 }
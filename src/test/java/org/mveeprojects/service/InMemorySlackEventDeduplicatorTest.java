@@ -0,0 +1,96 @@
+package org.mveeprojects.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemorySlackEventDeduplicatorTest {
+
+    @Test
+    void testFirstDeliveryIsNotDuplicate() {
+        InMemorySlackEventDeduplicator deduplicator =
+            new InMemorySlackEventDeduplicator(Duration.ofMinutes(5), 100);
+
+        assertFalse(deduplicator.isDuplicate("Ev001"));
+        assertTrue(deduplicator.isDuplicate("Ev001"));
+        assertFalse(deduplicator.isDuplicate("Ev002"));
+    }
+
+    @Test
+    void testIdsExpireAfterWindow() {
+        AtomicLong clock = new AtomicLong();
+        InMemorySlackEventDeduplicator deduplicator =
+            new InMemorySlackEventDeduplicator(Duration.ofSeconds(10), 100, clock::get);
+
+        assertFalse(deduplicator.isDuplicate("Ev001"));
+        clock.addAndGet(Duration.ofSeconds(9).toNanos());
+        assertTrue(deduplicator.isDuplicate("Ev001"));
+
+        clock.addAndGet(Duration.ofSeconds(2).toNanos());
+        assertFalse(deduplicator.isDuplicate("Ev001"), "Expired id should be accepted again");
+        assertTrue(deduplicator.isDuplicate("Ev001"));
+    }
+
+    @Test
+    void testForgottenIdIsAcceptedAgain() {
+        InMemorySlackEventDeduplicator deduplicator =
+            new InMemorySlackEventDeduplicator(Duration.ofMinutes(5), 100);
+
+        assertFalse(deduplicator.isDuplicate("Ev001"));
+        deduplicator.forget("Ev001");
+        assertFalse(deduplicator.isDuplicate("Ev001"), "A forgotten delivery should not block its redelivery");
+        assertTrue(deduplicator.isDuplicate("Ev001"));
+    }
+
+    @Test
+    void testSizeIsBounded() {
+        InMemorySlackEventDeduplicator deduplicator =
+            new InMemorySlackEventDeduplicator(Duration.ofMinutes(5), 100);
+
+        for (int i = 0; i < 1000; i++) {
+            deduplicator.isDuplicate("Ev" + i);
+        }
+
+        assertTrue(deduplicator.size() <= 100, "Size should not exceed bound: " + deduplicator.size());
+        assertTrue(deduplicator.isDuplicate("Ev999"), "Most recent ids should be retained");
+        assertFalse(deduplicator.isDuplicate("Ev0"), "Oldest ids should be evicted first");
+    }
+
+    @Test
+    void testConcurrentDeliveriesAreAcceptedOnce() throws Exception {
+        InMemorySlackEventDeduplicator deduplicator =
+            new InMemorySlackEventDeduplicator(Duration.ofMinutes(5), 10_000);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        ConcurrentHashMap<String, AtomicInteger> accepted = new ConcurrentHashMap<>();
+        CountDownLatch start = new CountDownLatch(1);
+
+        for (int thread = 0; thread < 8; thread++) {
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < 500; i++) {
+                    String id = "Ev" + i;
+                    if (!deduplicator.isDuplicate(id)) {
+                        accepted.computeIfAbsent(id, key -> new AtomicInteger()).incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(500, accepted.size());
+        assertTrue(accepted.values().stream().allMatch(count -> count.get() == 1));
+    }
+}
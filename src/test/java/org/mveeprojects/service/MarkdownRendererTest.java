@@ -2,8 +2,12 @@ package org.mveeprojects.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mveeprojects.telemetry.PipelineTelemetry;
+
+import java.nio.charset.StandardCharsets;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -125,4 +129,22 @@ class MarkdownRendererTest {
 
         assertEquals(expected.trim(), markdown.trim());
     }
+
+    @Test
+    void testRenderedSizeIsRecordedInUtf8Bytes() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        MarkdownRenderer renderer = new MarkdownRenderer(new PipelineTelemetry(meterRegistry));
+
+        String markdown = renderer.renderJsonToMarkdown(objectMapper.readTree("{\"status\": \"✅ café 🚀\"}"));
+
+        assertEquals(markdown.getBytes(StandardCharsets.UTF_8).length,
+                     meterRegistry.get("markdown.render.bytes").summary().totalAmount());
+    }
+
+    @Test
+    void testUtf8LengthMatchesEncoding() {
+        for (String text : new String[] {"", "plain", "café", "✅ done", "🚀 launch", "broken \uD83D pair"}) {
+            assertEquals(text.getBytes(StandardCharsets.UTF_8).length, PipelineTelemetry.utf8Length(text), text);
+        }
+    }
 }
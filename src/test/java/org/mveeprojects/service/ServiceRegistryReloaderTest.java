@@ -0,0 +1,143 @@
+package org.mveeprojects.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mveeprojects.config.ExternalServiceConfig;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ServiceRegistryReloaderTest {
+
+    @TempDir
+    Path dir;
+
+    private ServiceRegistryReloader reloader;
+
+    @AfterEach
+    void tearDown() {
+        if (reloader != null) {
+            reloader.stop();
+        }
+    }
+
+    @Test
+    void testServicesFileReplacesConfiguredServicesAtStartup() throws IOException {
+        Path file = writeServices("""
+            external:
+              services:
+                - name: "file-api"
+                  url: "http://localhost:8081/api/file"
+                  display-name: "File Service"
+                  headers:
+                    Authorization: "Bearer ${FILE_API_TOKEN:none}"
+            """);
+        ExternalServiceClient client = new ExternalServiceClient(config(file, "yml-api"));
+        MockEnvironment environment = new MockEnvironment().withProperty("FILE_API_TOKEN", "secret");
+
+        reloader = new ServiceRegistryReloader(client, config(file, "yml-api"), environment, new SimpleMeterRegistry());
+
+        ServiceRegistry registry = client.getServiceRegistry();
+        assertNull(registry.get("yml-api"));
+        assertEquals("File Service", registry.displayName("file-api"));
+        assertEquals("Bearer secret", registry.get("file-api").headers().getFirst("Authorization"),
+            "Placeholders resolve against the environment");
+    }
+
+    @Test
+    void testReloadSwapsRegistryAndKeepsUnchangedEntries() throws IOException {
+        Path file = writeServices(services("primary-api", "secondary-api"));
+        ExternalServiceConfig config = config(file, "yml-api");
+        ExternalServiceClient client = new ExternalServiceClient(config);
+        reloader = new ServiceRegistryReloader(client, config, new StandardEnvironment(), new SimpleMeterRegistry());
+        ServiceRegistry snapshot = client.getServiceRegistry();
+
+        writeServices(services("primary-api", "tertiary-api"));
+        ServiceRegistry reloaded = reloader.reload();
+
+        assertSame(reloaded, client.getServiceRegistry());
+        assertSame(snapshot.get("primary-api"), reloaded.get("primary-api"));
+        assertNull(reloaded.get("secondary-api"));
+        assertNotNull(reloaded.get("tertiary-api"));
+        assertNotNull(snapshot.get("secondary-api"), "A workflow holding the old snapshot still sees its services");
+    }
+
+    @Test
+    void testInvalidFileKeepsCurrentServices() throws IOException {
+        Path file = writeServices(services("primary-api"));
+        ExternalServiceConfig config = config(file, "yml-api");
+        ExternalServiceClient client = new ExternalServiceClient(config);
+        reloader = new ServiceRegistryReloader(client, config, new StandardEnvironment(), new SimpleMeterRegistry());
+        ServiceRegistry before = client.getServiceRegistry();
+
+        writeServices(services("primary-api", "primary-api"));
+
+        assertThrows(IllegalArgumentException.class, reloader::reload);
+        assertSame(before, client.getServiceRegistry());
+    }
+
+    @Test
+    void testWatcherPicksUpFileChanges() throws Exception {
+        Path file = writeServices(services("primary-api"));
+        ExternalServiceConfig config = config(file, "yml-api");
+        config.getReload().setDebounce(Duration.ofMillis(50));
+        ExternalServiceClient client = new ExternalServiceClient(config);
+        reloader = new ServiceRegistryReloader(client, config, new StandardEnvironment(), new SimpleMeterRegistry());
+        reloader.start();
+
+        // Replace rather than rewrite, the way editors and ConfigMap updates do
+        Path replacement = dir.resolve("services.yml.tmp");
+        Files.writeString(replacement, services("primary-api", "secondary-api"));
+        Files.move(replacement, file, StandardCopyOption.REPLACE_EXISTING);
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(20).toNanos();
+        while (client.getServiceRegistry().get("secondary-api") == null && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertNotNull(client.getServiceRegistry().get("secondary-api"), "Watcher should have reloaded the file");
+    }
+
+    @Test
+    void testReloadWithoutFileIsRejected() {
+        ExternalServiceConfig config = config(null, "yml-api");
+        ExternalServiceClient client = new ExternalServiceClient(config);
+        reloader = new ServiceRegistryReloader(client, config, new StandardEnvironment(), new SimpleMeterRegistry());
+
+        assertThrows(IllegalStateException.class, reloader::reload);
+        assertNotNull(client.getServiceRegistry().get("yml-api"));
+    }
+
+    private Path writeServices(String yaml) throws IOException {
+        return Files.writeString(dir.resolve("services.yml"), yaml);
+    }
+
+    private static String services(String... names) {
+        StringBuilder yaml = new StringBuilder("external:\n  services:\n");
+        for (String name : names) {
+            yaml.append("    - name: \"").append(name).append("\"\n")
+                .append("      url: \"http://localhost:8081/api/").append(name).append("\"\n");
+        }
+        return yaml.toString();
+    }
+
+    private static ExternalServiceConfig config(Path file, String serviceName) {
+        ExternalServiceConfig.ServiceDefinition service = new ExternalServiceConfig.ServiceDefinition();
+        service.setName(serviceName);
+        service.setUrl("http://localhost:8081/api/" + serviceName);
+
+        ExternalServiceConfig config = new ExternalServiceConfig();
+        config.setServices(List.of(service));
+        config.getReload().setFile(file != null ? file.toString() : null);
+        return config;
+    }
+}
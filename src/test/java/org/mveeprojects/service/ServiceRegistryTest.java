@@ -0,0 +1,119 @@
+package org.mveeprojects.service;
+
+import org.junit.jupiter.api.Test;
+import org.mveeprojects.config.ExternalServiceConfig;
+import org.mveeprojects.telemetry.PipelineTelemetry;
+import org.springframework.http.HttpHeaders;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ServiceRegistryTest {
+
+    @Test
+    void testLookupByNameResolvesRequestSettings() {
+        ServiceRegistry registry = registry(
+            service("primary-api", "Primary Data Service", Map.of("Authorization", "Bearer token")),
+            service("secondary-api", null, null));
+
+        ServiceRegistry.Entry primary = registry.get("primary-api");
+        assertNotNull(primary);
+        assertEquals("Primary Data Service", primary.displayName());
+        assertEquals(URI.create("http://localhost:8081/primary-api"), primary.uri());
+        assertEquals("Bearer token", primary.headers().getFirst(HttpHeaders.AUTHORIZATION));
+        assertEquals(Duration.ofMillis(5000), primary.timeout());
+        assertEquals(2, primary.retry().maxAttempts);
+
+        ServiceRegistry.Entry secondary = registry.get("secondary-api");
+        assertEquals("secondary-api", secondary.displayName(), "Display name defaults to the service name");
+        assertTrue(secondary.headers().isEmpty());
+    }
+
+    @Test
+    void testUnknownServices() {
+        ServiceRegistry registry = registry(service("primary-api", "Primary Data Service", null));
+
+        assertNull(registry.get("missing-api"));
+        assertNull(registry.get(null));
+        assertEquals("missing-api", registry.displayName("missing-api"));
+    }
+
+    @Test
+    void testEntriesKeepConfigurationOrder() {
+        ServiceRegistry registry = registry(
+            service("c-api", null, null), service("a-api", null, null), service("b-api", null, null));
+
+        assertEquals(List.of("c-api", "a-api", "b-api"),
+            registry.entries().stream().map(ServiceRegistry.Entry::name).toList());
+        assertEquals(3, registry.definitions().size());
+    }
+
+    @Test
+    void testRegistryIsImmutable() {
+        ServiceRegistry registry = registry(service("primary-api", null, Map.of("X-API-Key", "key")));
+
+        assertThrows(UnsupportedOperationException.class, () -> registry.entries().clear());
+        assertThrows(UnsupportedOperationException.class, () -> registry.definitions().clear());
+        assertThrows(UnsupportedOperationException.class,
+            () -> registry.get("primary-api").headers().add("X-Other", "value"));
+    }
+
+    @Test
+    void testInvalidConfigurationFailsAtStartup() {
+        assertThrows(IllegalArgumentException.class,
+            () -> registry(service("primary-api", null, null), service("primary-api", null, null)));
+        assertThrows(IllegalArgumentException.class, () -> registry(service(" ", null, null)));
+        assertThrows(IllegalArgumentException.class, () -> registry(service("stage:slack-post", null, null)));
+    }
+
+    @Test
+    void testReloadKeepsUnchangedEntriesAndLeavesTheOldRegistryIntact() {
+        ServiceRegistry before = registry(
+            service("primary-api", "Primary Data Service", null),
+            service("secondary-api", "Secondary Analytics Service", null));
+
+        ExternalServiceConfig.ServiceDefinition retunedSecondary = service("secondary-api", "Secondary Analytics Service", null);
+        retunedSecondary.setTimeout(1000);
+        ServiceRegistry after = before.withDefinitions(List.of(
+            service("primary-api", "Primary Data Service", null),
+            retunedSecondary,
+            service("tertiary-api", null, null)));
+
+        assertSame(before.get("primary-api"), after.get("primary-api"), "Unchanged services keep their entry");
+        assertNotSame(before.get("secondary-api"), after.get("secondary-api"));
+        assertEquals(Duration.ofMillis(1000), after.get("secondary-api").timeout());
+        assertNotNull(after.get("tertiary-api"));
+        assertEquals(before.generation() + 1, after.generation());
+
+        assertEquals(2, before.size(), "A snapshot is never changed by a reload");
+        assertEquals(Duration.ofMillis(5000), before.get("secondary-api").timeout());
+    }
+
+    @Test
+    void testMissingServiceListGivesEmptyRegistry() {
+        ServiceRegistry registry = ServiceRegistry.from(null, PipelineTelemetry.noop());
+
+        assertEquals(0, registry.size());
+        assertNull(registry.get("primary-api"));
+    }
+
+    private static ServiceRegistry registry(ExternalServiceConfig.ServiceDefinition... services) {
+        return ServiceRegistry.from(List.of(services), PipelineTelemetry.noop());
+    }
+
+    private static ExternalServiceConfig.ServiceDefinition service(String name, String displayName,
+                                                                   Map<String, String> headers) {
+        ExternalServiceConfig.ServiceDefinition service = new ExternalServiceConfig.ServiceDefinition();
+        service.setName(name);
+        service.setUrl("http://localhost:8081/" + name.trim());
+        service.setDisplayName(displayName);
+        service.setTimeout(5000);
+        service.setRetryAttempts(2);
+        service.setHeaders(headers);
+        return service;
+    }
+}
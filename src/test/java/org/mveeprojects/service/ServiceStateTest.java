@@ -0,0 +1,50 @@
+package org.mveeprojects.service;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mveeprojects.config.ExternalServiceConfig;
+import org.mveeprojects.telemetry.PipelineTelemetry;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ServiceStateTest {
+
+    private final ServiceState state = new ServiceState(new ServiceBulkhead(
+        ServiceRegistry.Entry.of(definition(), PipelineTelemetry.noop()), WebClient.builder(), new SimpleMeterRegistry()));
+
+    private static ExternalServiceConfig.ServiceDefinition definition() {
+        ExternalServiceConfig.ServiceDefinition service = new ExternalServiceConfig.ServiceDefinition();
+        service.setName("test-service");
+        service.setUrl("http://localhost:8089/api/data");
+        return service;
+    }
+
+    private static ValidatedResponse validated() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag("\"v1\"");
+        return ValidatedResponse.of(JsonNodeFactory.instance.objectNode().put("version", 1), headers);
+    }
+
+    @Test
+    void testKeepsAndForgetsResponses() {
+        state.keep(validated());
+        assertNotNull(state.validated());
+
+        state.keep(null);
+        assertNull(state.validated());
+    }
+
+    @Test
+    void testFetchCompletingAfterRetirementLeavesNothingBehind() {
+        state.keep(validated());
+        state.retire();
+        assertNull(state.validated());
+
+        state.keep(validated());
+        assertNull(state.validated(), "A retired entry must not take a response from a late fetch");
+    }
+}
@@ -0,0 +1,146 @@
+package org.mveeprojects.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class StreamingJsonReaderTest {
+
+    private static final String JSON =
+        "{\"status\":\"success\",\"items\":[{\"id\":1,\"value\":12.5},{\"id\":2,\"value\":null}],\"ok\":true}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testTokensSplitAcrossChunksAreReassembled() throws Exception {
+        JsonNode expected = objectMapper.readTree(JSON);
+
+        // Three-byte chunks split field names, strings and numbers mid-token
+        StepVerifier.create(StreamingJsonReader.read(chunks(JSON.getBytes(StandardCharsets.UTF_8), 3), null, objectMapper, 1024))
+            .assertNext(body -> {
+                assertEquals(expected, body.json());
+                assertEquals(JSON.length(), body.bytes());
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    void testGzipIsInflatedAcrossChunkBoundaries() throws Exception {
+        JsonNode expected = objectMapper.readTree(JSON);
+
+        // Chunks small enough to split the gzip header, the deflate stream and the trailer
+        StepVerifier.create(StreamingJsonReader.read(chunks(gzip(JSON), 5), "gzip", objectMapper, 1024))
+            .assertNext(body -> {
+                assertEquals(expected, body.json());
+                assertEquals(JSON.length(), body.bytes(), "The decoded size is counted, not the wire size");
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    void testDeflateIsInflated() throws Exception {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (DeflaterOutputStream deflate = new DeflaterOutputStream(compressed)) {
+            deflate.write(JSON.getBytes(StandardCharsets.UTF_8));
+        }
+
+        StepVerifier.create(StreamingJsonReader.read(chunks(compressed.toByteArray(), 1), "deflate", objectMapper, 1024))
+            .assertNext(body -> assertEquals(JSON.length(), body.bytes()))
+            .verifyComplete();
+    }
+
+    @Test
+    void testCorruptGzipTrailerFails() throws Exception {
+        byte[] compressed = gzip(JSON);
+        compressed[compressed.length - 5] ^= 1;
+
+        StepVerifier.create(StreamingJsonReader.read(chunks(compressed, 64), "gzip", objectMapper, 1024))
+            .expectErrorMatches(error -> error.getMessage().contains("checksum or length mismatch"))
+            .verify();
+    }
+
+    @Test
+    void testTruncatedGzipFails() throws Exception {
+        byte[] compressed = gzip(JSON);
+
+        StepVerifier.create(StreamingJsonReader.read(
+                chunks(Arrays.copyOf(compressed, compressed.length / 2), 64), "gzip", objectMapper, 1024))
+            .expectErrorMatches(error -> error.getMessage().contains("Truncated"))
+            .verify();
+    }
+
+    @Test
+    void testInflatedSizeOverTheLimitFails() throws Exception {
+        byte[] bomb = gzip("{\"data\":\"" + "0".repeat(1024 * 1024) + "\"}");
+
+        StepVerifier.create(StreamingJsonReader.read(chunks(bomb, 1024), "gzip", objectMapper, 64 * 1024))
+            .expectError(DataBufferLimitException.class)
+            .verify();
+    }
+
+    @Test
+    void testEmptyBodyHasNoTree() {
+        StepVerifier.create(StreamingJsonReader.read(Flux.empty(), "gzip", objectMapper, 1024))
+            .assertNext(body -> {
+                assertNull(body.json());
+                assertEquals(0, body.bytes());
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    void testBodyOverTheLimitFailsWithoutReadingTheRest() {
+        Flux<DataBuffer> endless = Flux.generate(sink -> sink.next(buffer(("[" + "0,".repeat(100)).getBytes(StandardCharsets.UTF_8))));
+
+        StepVerifier.create(StreamingJsonReader.read(endless, null, objectMapper, 10_000))
+            .expectError(DataBufferLimitException.class)
+            .verify();
+    }
+
+    @Test
+    void testMalformedJsonFails() {
+        StepVerifier.create(StreamingJsonReader.read(
+                Flux.just(buffer("{\"status\":".getBytes(StandardCharsets.UTF_8))), null, objectMapper, 1024))
+            .expectError()
+            .verify();
+    }
+
+    @Test
+    void testUnsupportedEncodingFails() {
+        StepVerifier.create(StreamingJsonReader.read(Flux.just(buffer(new byte[] {1})), "br", objectMapper, 1024))
+            .expectErrorMatches(error -> error.getMessage().contains("Unsupported Content-Encoding"))
+            .verify();
+    }
+
+    private static Flux<DataBuffer> chunks(byte[] bytes, int size) {
+        return Flux.range(0, (bytes.length + size - 1) / size)
+            .map(i -> buffer(Arrays.copyOfRange(bytes, i * size, Math.min(bytes.length, i * size + size))));
+    }
+
+    private static byte[] gzip(String text) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(text.getBytes(StandardCharsets.UTF_8));
+        }
+        return compressed.toByteArray();
+    }
+
+    private static DataBuffer buffer(byte[] bytes) {
+        return DefaultDataBufferFactory.sharedInstance.wrap(bytes);
+    }
+}
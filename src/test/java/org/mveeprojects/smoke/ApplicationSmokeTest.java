@@ -1,6 +1,8 @@
 package org.mveeprojects.smoke;
 
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import org.junit.jupiter.api.Test;
+import org.mveeprojects.service.MarkdownRenderer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
@@ -110,4 +112,18 @@ class ApplicationSmokeTest {
         assertNotNull(response.getBody());
         assertNotEquals(0, response.getBody().length());
     }
+
+    @Test
+    void prometheusEndpointExposesPipelineMetrics() {
+        // Render once so the pipeline meters exist
+        applicationContext.getBean(MarkdownRenderer.class)
+            .renderJsonToMarkdown(JsonNodeFactory.instance.objectNode().put("status", "ok"));
+
+        ResponseEntity<String> response = restTemplate.getForEntity(
+            "http://localhost:" + port + "/actuator/prometheus", String.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(response.getBody().contains("markdown_render_seconds_bucket"));
+        assertTrue(response.getBody().contains("markdown_render_bytes"));
+    }
 }
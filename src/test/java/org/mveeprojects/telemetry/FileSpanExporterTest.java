@@ -0,0 +1,53 @@
+package org.mveeprojects.telemetry;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileSpanExporterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testSpansAreAppendedOnePerLine() throws Exception {
+        Path file = tempDir.resolve("traces/spans.log");
+        FileSpanExporter exporter = new FileSpanExporter(file);
+
+        try (SdkTracerProvider provider = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+                .build()) {
+            Tracer tracer = provider.get("test");
+            Span parent = tracer.spanBuilder("pipeline.workflow").startSpan();
+            Span child = tracer.spanBuilder("pipeline.fetch")
+                .setParent(Context.current().with(parent))
+                .setAttribute("service", "primary-api")
+                .startSpan();
+            child.end();
+            parent.end();
+
+            List<String> lines = Files.readAllLines(file);
+            assertEquals(2, lines.size());
+
+            String fetch = lines.get(0);
+            String[] fields = fetch.split(" ");
+            assertEquals(child.getSpanContext().getTraceId(), fields[0]);
+            assertEquals(child.getSpanContext().getSpanId(), fields[1]);
+            assertEquals(parent.getSpanContext().getSpanId(), fields[2]);
+            assertEquals("pipeline.fetch", fields[3]);
+            assertTrue(fetch.endsWith("service=primary-api"));
+
+            assertEquals("-", lines.get(1).split(" ")[2], "Root span has no parent");
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package org.mveeprojects.telemetry;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.slack.api.RequestConfigurator;
+import com.slack.api.methods.MethodsClient;
+import com.slack.api.methods.response.chat.ChatPostMessageResponse;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mveeprojects.service.MarkdownRenderer;
+import org.mveeprojects.service.SlackService;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class JfrEventsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testEventsAreDisabledByDefault() {
+        assertNull(RenderEvent.start("primary-api"));
+        assertNull(SlackPostEvent.start("primary-api", "C123"));
+        assertNull(UpstreamFetchEvent.start("primary-api"));
+        assertNull(WorkflowEvent.start("render", "*"));
+
+        // Finishing a disabled event must be a no-op
+        RenderEvent.finish(null, PipelineTelemetry.SUCCESS, 10);
+    }
+
+    @Test
+    void testRenderAndSlackPostEventsAreRecorded() throws Exception {
+        MethodsClient methodsClient = mock(MethodsClient.class);
+        ChatPostMessageResponse response = mock(ChatPostMessageResponse.class);
+        when(response.isOk()).thenReturn(true);
+        when(methodsClient.chatPostMessage(any(RequestConfigurator.class))).thenReturn(response);
+
+        MarkdownRenderer renderer = new MarkdownRenderer();
+        SlackService slackService = new SlackService(methodsClient);
+        Path dump = tempDir.resolve("pipeline.jfr");
+
+        String markdown;
+        try (Recording recording = new Recording()) {
+            recording.enable(RenderEvent.class);
+            recording.enable(SlackPostEvent.class);
+            recording.start();
+
+            markdown = renderer.renderJsonToMarkdown("primary-api",
+                    new ObjectMapper().readTree("{\"status\":\"✅ ok\",\"count\":3}"));
+            slackService.postThreadResponse("C123", "1234567890.123456", markdown, "primary-api");
+
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+
+        RecordedEvent render = single(events, "org.mveeprojects.Render");
+        assertEquals("primary-api", render.getString("service"));
+        assertEquals(PipelineTelemetry.SUCCESS, render.getString("outcome"));
+        assertEquals(markdown.getBytes(StandardCharsets.UTF_8).length, render.getLong("payloadBytes"));
+
+        RecordedEvent post = single(events, "org.mveeprojects.SlackPost");
+        assertEquals("primary-api", post.getString("service"));
+        assertEquals("C123", post.getString("channel"));
+        assertEquals(PipelineTelemetry.SUCCESS, post.getString("outcome"));
+        assertEquals(markdown.getBytes(StandardCharsets.UTF_8).length, post.getLong("payloadBytes"));
+    }
+
+    private static RecordedEvent single(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> matching = events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .toList();
+        assertEquals(1, matching.size(), "Expected exactly one " + name + " event");
+        return matching.get(0);
+    }
+}
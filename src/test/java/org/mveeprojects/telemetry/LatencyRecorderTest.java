@@ -0,0 +1,105 @@
+package org.mveeprojects.telemetry;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyRecorderTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final LatencyRecorder recorder = new LatencyRecorder(Duration.ofSeconds(10), 3, clock::get);
+
+    @Test
+    void testPercentilesPerName() {
+        for (int i = 1; i <= 1000; i++) {
+            recorder.record("primary-api", TimeUnit.MILLISECONDS.toNanos(i));
+        }
+        recorder.record(LatencyRecorder.SLACK_POST, TimeUnit.MILLISECONDS.toNanos(250));
+
+        LatencyRecorder.LatencySnapshot primary = recorder.snapshot("primary-api");
+        assertEquals(1000, primary.count());
+        assertEquals(500, primary.p50(), 1.0);
+        assertEquals(990, primary.p99(), 2.0);
+        assertEquals(999, primary.p999(), 2.0);
+        assertEquals(1000, primary.max(), 2.0);
+
+        Map<String, LatencyRecorder.LatencySnapshot> all = recorder.snapshot();
+        assertEquals(2, all.size());
+        assertEquals(1, all.get(LatencyRecorder.SLACK_POST).count());
+        assertNull(recorder.snapshot("unknown-service"));
+    }
+
+    @Test
+    void testOldIntervalsRollOutOfWindow() {
+        recorder.record("primary-api", TimeUnit.MILLISECONDS.toNanos(900));
+        assertEquals(1, recorder.snapshot("primary-api").count());
+
+        clock.addAndGet(Duration.ofSeconds(15).toNanos());
+        recorder.record("primary-api", TimeUnit.MILLISECONDS.toNanos(10));
+        assertEquals(2, recorder.snapshot("primary-api").count(), "Both intervals are inside the 30s window");
+
+        clock.addAndGet(Duration.ofSeconds(20).toNanos());
+        LatencyRecorder.LatencySnapshot snapshot = recorder.snapshot("primary-api");
+        assertEquals(1, snapshot.count(), "The first interval should have rolled out");
+        assertEquals(10, snapshot.max(), 0.1);
+
+        clock.addAndGet(Duration.ofMinutes(5).toNanos());
+        assertEquals(0, recorder.snapshot("primary-api").count());
+    }
+
+    @Test
+    void testUnreadSamplesRollOutOfWindow() {
+        // Nothing reads the percentiles until the end, so only writes can advance the intervals
+        recorder.record("primary-api", TimeUnit.MILLISECONDS.toNanos(900));
+        clock.addAndGet(Duration.ofSeconds(15).toNanos());
+        recorder.record("primary-api", TimeUnit.MILLISECONDS.toNanos(10));
+
+        clock.addAndGet(Duration.ofSeconds(20).toNanos());
+        LatencyRecorder.LatencySnapshot snapshot = recorder.snapshot("primary-api");
+        assertEquals(1, snapshot.count(), "The sample recorded 35s ago is outside the 30s window");
+        assertEquals(10, snapshot.max(), 0.1);
+    }
+
+    @Test
+    void testWriteAfterIdleWindowDropsOldSamples() {
+        recorder.record("primary-api", TimeUnit.MILLISECONDS.toNanos(900));
+        clock.addAndGet(Duration.ofMinutes(5).toNanos());
+        recorder.record("primary-api", TimeUnit.MILLISECONDS.toNanos(10));
+
+        LatencyRecorder.LatencySnapshot snapshot = recorder.snapshot("primary-api");
+        assertEquals(1, snapshot.count());
+        assertEquals(10, snapshot.max(), 0.1);
+    }
+
+    @Test
+    void testStagesDoNotShareAServiceNamesHistogram() {
+        recorder.record("slack-post", TimeUnit.MILLISECONDS.toNanos(900));
+        recorder.record(LatencyRecorder.SLACK_POST, TimeUnit.MILLISECONDS.toNanos(10));
+
+        assertEquals(900, recorder.snapshot("slack-post").max(), 1.0);
+        assertEquals(10, recorder.snapshot(LatencyRecorder.SLACK_POST).max(), 0.1);
+    }
+
+    @Test
+    void testIdleNamesAreDropped() {
+        recorder.record("retired-api", TimeUnit.MILLISECONDS.toNanos(100));
+        recorder.record("primary-api", TimeUnit.MILLISECONDS.toNanos(100));
+        clock.addAndGet(Duration.ofSeconds(35).toNanos());
+        recorder.record("primary-api", TimeUnit.MILLISECONDS.toNanos(10));
+
+        assertEquals(Set.of("primary-api"), recorder.snapshot().keySet(),
+            "A name with nothing left in its window is no longer reported");
+        assertNull(recorder.snapshot("retired-api"));
+
+        recorder.record("renamed-api", TimeUnit.MILLISECONDS.toNanos(10));
+        clock.addAndGet(Duration.ofSeconds(35).toNanos());
+        recorder.record("another-api", TimeUnit.MILLISECONDS.toNanos(10));
+        assertNull(recorder.snapshot("renamed-api"), "Recording a new name sweeps idle ones");
+    }
+}
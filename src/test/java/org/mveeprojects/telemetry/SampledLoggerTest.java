@@ -0,0 +1,97 @@
+package org.mveeprojects.telemetry;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SampledLoggerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final Logger logger = (Logger) LoggerFactory.getLogger(SampledLoggerTest.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private final SampledLogger sampled = new SampledLogger(logger, 3, Duration.ofSeconds(10), clock::get);
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+    }
+
+    @Test
+    void testStormIsCappedPerKeyAndSummarisedInNextWindow() {
+        for (int i = 0; i < 100; i++) {
+            sampled.warn("primary-api/timeout", "Error fetching from {}: {}", "primary-api", i);
+        }
+        sampled.warn("secondary-api/http_503", "Error fetching from {}", "secondary-api");
+
+        List<String> messages = messages();
+        assertEquals(4, messages.size(), "3 per key plus the other key");
+        assertEquals("Error fetching from primary-api: 0", messages.get(0));
+        assertEquals("Error fetching from secondary-api", messages.get(3));
+
+        clock.addAndGet(Duration.ofSeconds(11).toNanos());
+        appender.list.clear();
+        sampled.warn("primary-api/timeout", "Error fetching from {}: {}", "primary-api", 100);
+
+        messages = messages();
+        assertEquals(2, messages.size());
+        assertEquals("Suppressed 97 similar messages for primary-api/timeout in the last 10000ms", messages.get(0));
+        assertEquals("Error fetching from primary-api: 100", messages.get(1));
+    }
+
+    @Test
+    void testTrailingThrowableIsKept() {
+        sampled.warn("lane", "Error in Slack handler {}", "event-app_mention", new IllegalStateException("boom"));
+
+        ILoggingEvent event = appender.list.get(0);
+        assertEquals("Error in Slack handler event-app_mention", event.getFormattedMessage());
+        assertNotNull(event.getThrowableProxy());
+        assertEquals("boom", event.getThrowableProxy().getMessage());
+    }
+
+    @Test
+    void testKeysBeyondTheCapShareTheOverflowBudget() {
+        for (int i = 0; i < SampledLogger.MAX_KEYS + 50; i++) {
+            sampled.warn("/command-" + i, "Error processing {} command", "/command-" + i);
+        }
+
+        assertEquals(SampledLogger.MAX_KEYS + 1, sampled.trackedKeys(), "Every key past the cap shares one window");
+        assertEquals(SampledLogger.MAX_KEYS + 3, messages().size(), "3 messages from the overflow window");
+    }
+
+    @Test
+    void testIdleWindowsAreEvictedToMakeRoom() {
+        for (int i = 0; i < SampledLogger.MAX_KEYS; i++) {
+            sampled.warn("/command-" + i, "Error processing {} command", "/command-" + i);
+        }
+        for (int i = 0; i < 5; i++) {
+            sampled.warn("/command-0", "Error processing {} command", "/command-0");
+        }
+
+        clock.addAndGet(Duration.ofSeconds(11).toNanos());
+        appender.list.clear();
+        sampled.warn("/new-command", "Error processing {} command", "/new-command");
+
+        assertEquals(List.of("Error processing /new-command command"), messages());
+        assertEquals(2, sampled.trackedKeys(), "Only the window with suppressed messages still to report is kept");
+    }
+
+    private List<String> messages() {
+        return appender.list.stream().map(ILoggingEvent::getFormattedMessage).toList();
+    }
+}